@@ -0,0 +1,51 @@
+package com.tenco.bank.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.tenco.bank.dto.CursorPage;
+import com.tenco.bank.dto.DepositDTO;
+import com.tenco.bank.dto.TransferDTO;
+import com.tenco.bank.dto.WithdrawalDTO;
+import com.tenco.bank.repository.model.HistoryAccount;
+
+/**
+ * AccountService 주요 경로 처리량 / 평균 응답 시간
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccountServiceBenchmark {
+
+	@Benchmark
+	public void transfer(BankState state) {
+		TransferDTO dto = new TransferDTO();
+		dto.setWAccountNumber(state.randomAccountNumber());
+		dto.setDAccountNumber(state.randomOtherAccountNumber(dto.getWAccountNumber()));
+		dto.setPassword(BankState.PASSWORD);
+		dto.setAmount(1L);
+		state.accountService.updateAccountTransfer(dto, state.principalId);
+	}
+
+	@Benchmark
+	public void withdraw(BankState state) {
+		WithdrawalDTO dto = WithdrawalDTO.builder().amount(1L).wAccountNumber(state.randomAccountNumber()).wAccountPassword(BankState.PASSWORD).build();
+		state.accountService.updateAccountWithdraw(dto, state.principalId);
+	}
+
+	@Benchmark
+	public void deposit(BankState state) {
+		DepositDTO dto = new DepositDTO();
+		dto.setAmount(1L);
+		dto.setDAccountNumber(state.randomAccountNumber());
+		state.accountService.updateAccountDeposit(dto, state.principalId);
+	}
+
+	@Benchmark
+	public CursorPage<HistoryAccount> readHistoryByAccountId(BankState state) {
+		return state.accountService.readHistoryByAccountId("all", state.randomAccountId(), null, 10);
+	}
+}
@@ -0,0 +1,122 @@
+package com.tenco.bank.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tenco.bank.ClassBankApplication;
+import com.tenco.bank.dto.SignUpDTO;
+import com.tenco.bank.history.HistoryWriter;
+import com.tenco.bank.repository.interfaces.UserRepository;
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.service.AccountService;
+import com.tenco.bank.service.UserService;
+
+/**
+ * 벤치마크 공용 상태
+ * 내장 H2 로 애플리케이션 컨텍스트(웹 서버 제외)를 띄우고 계좌, 거래 내역을 미리 적재한다.
+ */
+@State(Scope.Benchmark)
+public class BankState {
+
+	public static final String USERNAME = "bench";
+	public static final String PASSWORD = "1234";
+	private static final int HISTORY_CHUNK = 1_000;
+
+	// 계좌 수
+	@Param({ "1000" })
+	public int accounts;
+
+	// 미리 적재할 거래 내역 수 (이체 기준)
+	@Param({ "100000" })
+	public int historyRows;
+
+	public ConfigurableApplicationContext context;
+	public AccountService accountService;
+	public UserService userService;
+	public Integer principalId;
+	public List<String> accountNumbers;
+	public List<Integer> accountIds;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(ClassBankApplication.class).web(WebApplicationType.NONE)
+				.properties("spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+						"logging.level.org.apache.ibatis=WARN", "spring.main.banner-mode=off")
+				.run();
+		accountService = context.getBean(AccountService.class);
+		userService = context.getBean(UserService.class);
+
+		SignUpDTO signUpDTO = SignUpDTO.builder().username(USERNAME).password(PASSWORD).fullname("벤치마크").build();
+		userService.createUser(signUpDTO);
+		principalId = context.getBean(UserRepository.class).findByUsername(USERNAME).getId();
+
+		loadAccounts();
+		loadHistory();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	public String randomAccountNumber() {
+		return accountNumbers.get(ThreadLocalRandom.current().nextInt(accountNumbers.size()));
+	}
+
+	// 이체 상대 계좌 (같은 계좌로의 이체는 거절되므로 다른 계좌)
+	public String randomOtherAccountNumber(String number) {
+		String other;
+		do {
+			other = randomAccountNumber();
+		} while (other.equals(number));
+		return other;
+	}
+
+	public Integer randomAccountId() {
+		return accountIds.get(ThreadLocalRandom.current().nextInt(accountIds.size()));
+	}
+
+	private void loadAccounts() {
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		accountNumbers = new ArrayList<>(accounts);
+		List<Object[]> rows = new ArrayList<>(accounts);
+		for (int i = 0; i < accounts; i++) {
+			String number = String.format("B%06d", i);
+			accountNumbers.add(number);
+			rows.add(new Object[] { number, PASSWORD, Long.MAX_VALUE / 4, principalId });
+		}
+		jdbcTemplate.batchUpdate("insert into account_tb(number, password, balance, user_id) values (?, ?, ?, ?)", rows);
+		jdbcTemplate.update("insert into account_stat_tb(account_id) select id from account_tb where user_id = ?", principalId);
+		jdbcTemplate.update("update user_stat_tb set account_count = ? where user_id = ?", accounts, principalId);
+		accountIds = jdbcTemplate.queryForList("select id from account_tb where user_id = ? order by id", Integer.class, principalId);
+	}
+
+	// HistoryWriter 로 적재해서 history_tb, account_entry_tb, 카운터가 서로 일치하도록 한다.
+	private void loadHistory() {
+		HistoryWriter historyWriter = context.getBean(HistoryWriter.class);
+		TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int loaded = 0; loaded < historyRows; loaded += HISTORY_CHUNK) {
+			List<History> chunk = new ArrayList<>(HISTORY_CHUNK);
+			for (int i = 0; i < HISTORY_CHUNK && loaded + i < historyRows; i++) {
+				History history = History.builder().amount(1L).wAccountId(randomAccountId()).dAccountId(randomAccountId()).wBalance(random.nextLong(1_000_000L))
+						.dBalance(random.nextLong(1_000_000L)).build();
+				chunk.add(history);
+			}
+			transactionTemplate.executeWithoutResult(status -> historyWriter.writeAll(chunk));
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.tenco.bank.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.tenco.bank.dto.SignInDTO;
+import com.tenco.bank.dto.TransferDTO;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.model.User;
+
+/**
+ * 로그인 폭주가 이체 응답 시간에 주는 영향
+ * transferOnly 그룹 : 이체 4 스레드만 실행 (기준)
+ * loginStorm 그룹 : 로그인 12 스레드 + 이체 4 스레드를 동시에 실행
+ * 이체 스레드 수가 같은 transferOnly:transferAlone 과 loginStorm:transfer 의 응답 시간 분포(p50/p99)를 비교한다.
+ * 해시 스레드 풀이 가득 차서 거절된 로그인은 rejected 카운터로 집계
+ * 실행 : ./gradlew jmh -Pjmh.includes=LoginStormBenchmark
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoginStormBenchmark {
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class LoginCounters {
+		public long succeeded;
+		public long rejected;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			succeeded = 0;
+			rejected = 0;
+		}
+	}
+
+	@Benchmark
+	@Group("transferOnly")
+	@GroupThreads(4)
+	public void transferAlone(BankState state) {
+		transfer(state);
+	}
+
+	@Benchmark
+	@Group("loginStorm")
+	@GroupThreads(12)
+	public User login(BankState state, LoginCounters counters) {
+		try {
+			User user = state.userService.readUser(SignInDTO.builder().username(BankState.USERNAME).password(BankState.PASSWORD).build());
+			counters.succeeded++;
+			return user;
+		} catch (DataDeliveryException e) {
+			// 503 - 해시 대기열 초과
+			counters.rejected++;
+			return null;
+		}
+	}
+
+	@Benchmark
+	@Group("loginStorm")
+	@GroupThreads(4)
+	public void transfer(BankState state) {
+		TransferDTO dto = new TransferDTO();
+		dto.setWAccountNumber(state.randomAccountNumber());
+		dto.setDAccountNumber(state.randomOtherAccountNumber(dto.getWAccountNumber()));
+		dto.setPassword(BankState.PASSWORD);
+		dto.setAmount(1L);
+		state.accountService.updateAccountTransfer(dto, state.principalId);
+	}
+}
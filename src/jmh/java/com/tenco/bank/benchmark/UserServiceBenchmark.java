@@ -0,0 +1,24 @@
+package com.tenco.bank.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.tenco.bank.dto.SignInDTO;
+import com.tenco.bank.repository.model.User;
+
+/**
+ * 로그인(BCrypt 검증 포함) 처리량
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserServiceBenchmark {
+
+	@Benchmark
+	public User readUser(BankState state) {
+		return state.userService.readUser(SignInDTO.builder().username(BankState.USERNAME).password(BankState.PASSWORD).build());
+	}
+}
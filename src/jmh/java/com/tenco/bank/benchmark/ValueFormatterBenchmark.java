@@ -0,0 +1,60 @@
+package com.tenco.bank.benchmark;
+
+import java.sql.Timestamp;
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.tenco.bank.utils.ValueFormats;
+
+/**
+ * 목록 화면 한 행 포맷 비용 - 기존 방식(호출마다 SimpleDateFormat/DecimalFormat 생성) vs ValueFormats
+ * 실행 : ./gradlew jmh -Pjmh.includes=ValueFormatterBenchmark (-prof gc 로 할당량 비교)
+ * Spring 컨텍스트 없이 실행된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueFormatterBenchmark {
+
+	private long amount;
+	private Timestamp timestamp;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		amount = ThreadLocalRandom.current().nextLong(1, 10_000_000_000L);
+		timestamp = new Timestamp(System.currentTimeMillis() - ThreadLocalRandom.current().nextLong(1, 365L * 24 * 3600 * 1000));
+	}
+
+	@Benchmark
+	public String legacyKoreanWon() {
+		DecimalFormat df = new DecimalFormat("#,###");
+		return df.format(amount) + "원";
+	}
+
+	@Benchmark
+	public String koreanWon() {
+		return ValueFormats.formatKoreanWon(amount);
+	}
+
+	@Benchmark
+	public String legacyTimestamp() {
+		SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+		return sdf.format(timestamp);
+	}
+
+	@Benchmark
+	public String timestamp() {
+		return ValueFormats.formatTimestamp(timestamp);
+	}
+}
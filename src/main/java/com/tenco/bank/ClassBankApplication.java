@@ -2,8 +2,10 @@ package com.tenco.bank;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 카운터 복구 등 예약 작업
 public class ClassBankApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,11 @@
+package com.tenco.bank.auth;
+
+/**
+ * 로그인 상태 보관 방식 (bank.auth.mode)
+ */
+public enum AuthMode {
+	// HttpSession 에 principal 저장 (서버 한 대 기준)
+	SESSION,
+	// 서명된 토큰 쿠키 (서버 메모리 사용 없음, 여러 서버에서 검증 가능)
+	TOKEN
+}
@@ -0,0 +1,126 @@
+package com.tenco.bank.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tenco.bank.repository.model.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 토큰 발급/검증 (HMAC-SHA256)
+ * 형식 : base64url(id|만료시각(epoch 초)|base64url(username)|base64url(fullname)) + "." + base64url(서명)
+ * 비밀번호는 담지 않는다. 같은 키를 가진 서버라면 어디서든 세션 조회 없이 검증 가능
+ * 화면에 쓰는 principal 값(username, fullname)을 모두 담아서 세션 방식과 같은 principal 을 복원한다. (구분자가 섞이지 않게 각각 인코딩)
+ */
+@Slf4j
+@Component
+public class AuthTokenService {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final SecretKeySpec key;
+	private final Duration ttl;
+	private final Clock clock;
+	private final ThreadLocal<Mac> macs;
+
+	@Autowired
+	public AuthTokenService(@Value("${bank.auth.token.secret:}") String secret, @Value("${bank.auth.token.ttl-minutes:60}") long ttlMinutes) {
+		this(secret, Duration.ofMinutes(ttlMinutes), Clock.systemUTC());
+	}
+
+	AuthTokenService(String secret, Duration ttl, Clock clock) {
+		this.key = new SecretKeySpec(keyBytes(secret), ALGORITHM);
+		this.ttl = ttl;
+		this.clock = clock;
+		this.macs = ThreadLocal.withInitial(this::newMac);
+	}
+
+	public String issue(User user) {
+		long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+		String payload = user.getId() + "|" + expiresAt + "|" + encodeText(user.getUsername()) + "|" + encodeText(user.getFullname());
+		byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+		return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+	}
+
+	/**
+	 * @return 서명과 만료 시각이 유효하면 principal (id, username, fullname), 아니면 null
+	 */
+	public User verify(String token) {
+		if (token == null) {
+			return null;
+		}
+		int dot = token.indexOf('.');
+		if (dot <= 0) {
+			return null;
+		}
+		try {
+			byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+			byte[] signature = DECODER.decode(token.substring(dot + 1));
+			if (MessageDigest.isEqual(sign(payloadBytes), signature) == false) {
+				return null;
+			}
+			String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", -1);
+			if (parts.length != 4 || Long.parseLong(parts[1]) < clock.instant().getEpochSecond()) {
+				return null;
+			}
+			return User.builder().id(Integer.valueOf(parts[0])).username(decodeText(parts[2])).fullname(decodeText(parts[3])).build();
+		} catch (IllegalArgumentException e) {
+			// base64, 숫자 형식 오류
+			return null;
+		}
+	}
+
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	// null 은 빈 문자열로 저장
+	private static String encodeText(String text) {
+		return text == null ? "" : ENCODER.encodeToString(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String decodeText(String encoded) {
+		return encoded.isEmpty() ? null : new String(DECODER.decode(encoded), StandardCharsets.UTF_8);
+	}
+
+	private byte[] sign(byte[] payload) {
+		Mac mac = macs.get();
+		return mac.doFinal(payload);
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] keyBytes(String secret) {
+		if (secret == null || secret.isBlank()) {
+			// 서버마다 키가 달라지므로 여러 대 운영시 반드시 bank.auth.token.secret 지정
+			log.warn("bank.auth.token.secret 미설정 - 임시 키를 생성합니다 (재시작시 로그인 토큰 무효)");
+			byte[] random = new byte[32];
+			new SecureRandom().nextBytes(random);
+			return random;
+		}
+		return secret.getBytes(StandardCharsets.UTF_8);
+	}
+}
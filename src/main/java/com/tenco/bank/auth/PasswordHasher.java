@@ -0,0 +1,116 @@
+package com.tenco.bank.auth;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.utils.Define;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀
+ * BCrypt 는 CPU 를 오래 쓰므로 요청 스레드에서 직접 돌리지 않고 정해진 수의 스레드에서만 실행한다.
+ * 대기열까지 가득 차면 바로 거절(503)해서 로그인 폭주가 이체 요청의 CPU 를 뺏지 않도록 한다.
+ * BCrypt 는 인터럽트를 확인하지 않으므로 시간 초과된 해시는 cancel 해도 끝까지 실행된다.
+ * 대기열에서 아직 시작하지 않은 작업만 제거되고, 실행 중인 작업은 스레드를 계속 점유한다.
+ * 그래서 timeout-ms 는 (queue-size / hash-threads + 1) x 해시 1회 시간보다 크게 잡아서
+ * 대기열에 들어간 요청이 정상적으로는 시간 초과되지 않도록 한다. (초과가 잦으면 queue-size 를 줄인다)
+ */
+@Component
+public class PasswordHasher implements MeterBinder {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+	private final LongAdder rejected = new LongAdder();
+
+	public PasswordHasher(PasswordEncoder passwordEncoder, @Value("${bank.password.hash-threads:0}") int threads,
+			@Value("${bank.password.queue-size:64}") int queueSize, @Value("${bank.password.timeout-ms:5000}") long timeoutMillis) {
+		this.passwordEncoder = passwordEncoder;
+		this.timeoutMillis = timeoutMillis;
+		// 0 이면 CPU 코어 수의 절반 (최소 1)
+		int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+			Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	public String encode(CharSequence rawPassword) {
+		return call(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return call(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	// 저장된 해시의 cost 가 현재 설정보다 낮으면 true (로그인 성공시 다시 해시)
+	public boolean upgradeEncoding(String encodedPassword) {
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T call(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new DataDeliveryException(Define.TOO_MANY_LOGIN_REQUESTS, HttpStatus.SERVICE_UNAVAILABLE);
+		}
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			cancel(future);
+			throw new DataDeliveryException(Define.TOO_MANY_LOGIN_REQUESTS, HttpStatus.SERVICE_UNAVAILABLE);
+		} catch (InterruptedException e) {
+			cancel(future);
+			Thread.currentThread().interrupt();
+			throw new DataDeliveryException(Define.TOO_MANY_LOGIN_REQUESTS, HttpStatus.SERVICE_UNAVAILABLE);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	// 대기 중인 작업은 대기열에서 바로 빼서 자리를 비운다. (이미 실행 중인 해시는 멈추지 않는다)
+	private void cancel(Future<?> future) {
+		future.cancel(false);
+		if (future instanceof Runnable queued) {
+			executor.remove(queued);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("bank.password.hasher.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+		Gauge.builder("bank.password.hasher.queued", executor, e -> e.getQueue().size()).register(registry);
+		FunctionCounter.builder("bank.password.hasher.rejected", rejected, LongAdder::sum).register(registry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
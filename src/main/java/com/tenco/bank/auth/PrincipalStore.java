@@ -0,0 +1,87 @@
+package com.tenco.bank.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import com.tenco.bank.repository.model.User;
+import com.tenco.bank.utils.Define;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 로그인 principal 저장/조회
+ * SESSION : HttpSession, TOKEN : 서명 토큰 쿠키 (AuthTokenService)
+ * 조회한 principal 은 요청 속성(Define.PRINCIPAL)에 올려 컨트롤러와 JSP(${principal}) 에서 사용한다.
+ */
+@Component
+public class PrincipalStore {
+
+	public static final String TOKEN_COOKIE = "BANK_AUTH";
+
+	private final AuthMode authMode;
+	private final AuthTokenService authTokenService;
+	// 토큰 쿠키 속성 - HTTPS 로만 전송, 다른 사이트에서 시작된 요청에는 보내지 않음
+	private final boolean cookieSecure;
+	private final String cookieSameSite;
+
+	public PrincipalStore(@Value("${bank.auth.mode:SESSION}") AuthMode authMode, AuthTokenService authTokenService,
+			@Value("${bank.auth.token.cookie-secure:true}") boolean cookieSecure, @Value("${bank.auth.token.cookie-same-site:Strict}") String cookieSameSite) {
+		this.authMode = authMode;
+		this.authTokenService = authTokenService;
+		this.cookieSecure = cookieSecure;
+		this.cookieSameSite = cookieSameSite;
+	}
+
+	public void signIn(User user, HttpServletRequest request, HttpServletResponse response) {
+		// 비밀번호(해시)는 보관하지 않는다.
+		User principal = User.builder().id(user.getId()).username(user.getUsername()).fullname(user.getFullname()).build();
+		if (authMode == AuthMode.TOKEN) {
+			ResponseCookie cookie = tokenCookie(authTokenService.issue(principal)).maxAge(authTokenService.getTtl()).build();
+			response.addHeader("Set-Cookie", cookie.toString());
+		} else {
+			request.getSession().setAttribute(Define.PRINCIPAL, principal);
+		}
+	}
+
+	/**
+	 * 요청의 principal 을 찾아 요청 속성에 올린다.
+	 * @return 로그인 전이면 null
+	 */
+	public User resolve(HttpServletRequest request) {
+		User principal;
+		if (authMode == AuthMode.TOKEN) {
+			Cookie cookie = WebUtils.getCookie(request, TOKEN_COOKIE);
+			principal = cookie == null ? null : authTokenService.verify(cookie.getValue());
+		} else {
+			HttpSession session = request.getSession(false);
+			principal = session == null ? null : (User) session.getAttribute(Define.PRINCIPAL);
+		}
+		if (principal != null) {
+			request.setAttribute(Define.PRINCIPAL, principal);
+		}
+		return principal;
+	}
+
+	public void signOut(HttpServletRequest request, HttpServletResponse response) {
+		if (authMode == AuthMode.TOKEN) {
+			response.addHeader("Set-Cookie", tokenCookie("").maxAge(0).build().toString());
+		}
+		HttpSession session = request.getSession(false);
+		if (session != null) {
+			session.invalidate(); // 로그아웃 됨
+		}
+	}
+
+	private ResponseCookie.ResponseCookieBuilder tokenCookie(String value) {
+		return ResponseCookie.from(TOKEN_COOKIE, value)
+				.httpOnly(true)
+				.secure(cookieSecure)
+				.sameSite(cookieSameSite)
+				.path("/");
+	}
+}
@@ -0,0 +1,81 @@
+package com.tenco.bank.concurrent;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.utils.Define;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 낙관적 동시성 제어 재시도 (OPTIMISTIC 모드)
+ * 작업이 OptimisticLockingFailureException (버전 충돌) 이나 PessimisticLockingFailureException
+ * (잠금 대기 시간 초과 CannotAcquireLockException, 데드락 희생 DeadlockLoserDataAccessException) 을 던지면 지터 백오프 후 처음부터 다시 실행한다.
+ * 잠금 실패도 트랜잭션이 롤백된 것이므로 새 트랜잭션에서 다시 실행하면 된다.
+ * 작업 하나가 트랜잭션 하나여야 한다. (같은 트랜잭션 안에서 다시 읽으면 MySQL REPEATABLE READ 는 같은 스냅샷을 보여준다)
+ * 백오프 : 0 ~ min(max, base * 2^(시도-1)) 사이 임의 시간 (동시에 충돌한 요청들이 같은 시각에 다시 부딪히지 않도록)
+ * 최대 시도 횟수를 넘기면 409 를 던진다.
+ */
+@Component
+public class OptimisticRetry implements MeterBinder {
+
+	private final int maxAttempts;
+	private final long backoffBaseMillis;
+	private final long backoffMaxMillis;
+	private final LongAdder conflicts = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder exhausted = new LongAdder();
+
+	public OptimisticRetry(@Value("${bank.optimistic.max-attempts:5}") int maxAttempts, @Value("${bank.optimistic.backoff-base-ms:5}") long backoffBaseMillis,
+			@Value("${bank.optimistic.backoff-max-ms:100}") long backoffMaxMillis) {
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoffBaseMillis = backoffBaseMillis;
+		this.backoffMaxMillis = backoffMaxMillis;
+	}
+
+	public <T> T execute(Supplier<T> attempt) {
+		for (int i = 1;; i++) {
+			try {
+				return attempt.get();
+			} catch (OptimisticLockingFailureException | PessimisticLockingFailureException e) {
+				conflicts.increment();
+				if (i >= maxAttempts) {
+					exhausted.increment();
+					throw new DataDeliveryException(Define.CONCURRENT_UPDATE_CONFLICT, HttpStatus.CONFLICT);
+				}
+				retries.increment();
+				backoff(i);
+			}
+		}
+	}
+
+	private void backoff(int attempt) {
+		long ceiling = Math.min(backoffMaxMillis, backoffBaseMillis << Math.min(attempt - 1, 20));
+		if (ceiling <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataDeliveryException(Define.CONCURRENT_UPDATE_CONFLICT, HttpStatus.CONFLICT);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("bank.optimistic.conflicts", conflicts, LongAdder::sum).register(registry);
+		FunctionCounter.builder("bank.optimistic.retries", retries, LongAdder::sum).register(registry);
+		FunctionCounter.builder("bank.optimistic.exhausted", exhausted, LongAdder::sum).register(registry);
+	}
+}
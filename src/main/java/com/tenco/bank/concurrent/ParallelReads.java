@@ -0,0 +1,180 @@
+package com.tenco.bank.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.tenco.bank.datasource.ReadRouting;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.utils.Define;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서로 독립적인 조회를 가상 스레드에서 동시에 실행 (화면 응답 시간 = 가장 느린 조회 시간)
+ * 사용법 : Batch batch = parallelReads.begin(); Part<A> a = batch.add(...); Part<B> b = batch.add(...); batch.await(); a.get();
+ * 1. begin() 시점부터 요청별 제한 시간(deadline)을 둔다.
+ * 2. await() 는 모든 조회를 함께 기다린다.
+ *    필수 조회가 실패하면 원래 예외(DataDeliveryException 등)를, 제한 시간을 넘기면 503 을 던지고 나머지 조회는 취소한다.
+ *    취소는 조회 스레드를 인터럽트하지 않는다. (JDBC 실행 중 인터럽트되면 커넥션이 깨질 수 있음)
+ *    이미 실행 중인 DB 조회는 매퍼의 statement timeout(mybatis.configuration-properties.read-timeout-seconds)으로 끝난다.
+ *    선택 조회(fallback 지정)는 실패하거나 시간을 넘기면 fallback 값을 사용한다.
+ * 조회는 요청 스레드가 아닌 스레드에서 실행되므로 요청 속성(principal)이나 호출자 트랜잭션을 사용할 수 없다. (읽기 라우팅 상태만 전달)
+ */
+@Slf4j
+@Component
+public class ParallelReads {
+
+	private final ExecutorService executor;
+	private final long timeoutMillis;
+	private final MeterRegistry meterRegistry;
+
+	public ParallelReads(@Value("${bank.parallel-reads.timeout-ms:2000}") long timeoutMillis, MeterRegistry meterRegistry) {
+		this(Executors.newVirtualThreadPerTaskExecutor(), timeoutMillis, meterRegistry);
+	}
+
+	ParallelReads(ExecutorService executor, long timeoutMillis, MeterRegistry meterRegistry) {
+		this.executor = executor;
+		this.timeoutMillis = timeoutMillis;
+		this.meterRegistry = meterRegistry;
+	}
+
+	// 기본 제한 시간으로 시작
+	public Batch begin() {
+		return begin(timeoutMillis);
+	}
+
+	public Batch begin(long timeoutMillis) {
+		return new Batch(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 한 요청의 동시 조회 묶음 (한 스레드에서만 사용)
+	 */
+	public class Batch {
+
+		private final long deadlineNanos;
+		private final List<Part<?>> parts = new ArrayList<>();
+
+		private Batch(long deadlineNanos) {
+			this.deadlineNanos = deadlineNanos;
+		}
+
+		/**
+		 * 필수 조회 - 실패하면 await() 가 예외를 던진다.
+		 */
+		public <T> Part<T> add(String name, Supplier<T> read) {
+			return add(name, read, true, null);
+		}
+
+		/**
+		 * 선택 조회 - 실패하거나 제한 시간을 넘기면 fallback 사용
+		 */
+		public <T> Part<T> addOptional(String name, Supplier<T> read, T fallback) {
+			return add(name, read, false, fallback);
+		}
+
+		private <T> Part<T> add(String name, Supplier<T> read, boolean required, T fallback) {
+			// replica 읽기 라우팅 상태(쓰기 직후 primary 사용)를 조회 스레드로 전달
+			Supplier<T> routed = ReadRouting.wrap(read);
+			Part<T> part = new Part<>(name, executor.submit(routed::get), required, fallback);
+			parts.add(part);
+			return part;
+		}
+
+		/**
+		 * 모든 조회 완료 대기 (남은 제한 시간까지)
+		 */
+		public void await() {
+			for (Part<?> part : parts) {
+				try {
+					part.complete(deadlineNanos - System.nanoTime());
+				} catch (RuntimeException e) {
+					cancelAll();
+					throw e;
+				}
+			}
+		}
+
+		private void cancelAll() {
+			for (Part<?> part : parts) {
+				part.future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * 조회 1건의 결과
+	 */
+	public class Part<T> {
+
+		private final String name;
+		private final Future<T> future;
+		private final boolean required;
+		private T value;
+		private boolean completed;
+
+		private Part(String name, Future<T> future, boolean required, T fallback) {
+			this.name = name;
+			this.future = future;
+			this.required = required;
+			this.value = fallback;
+		}
+
+		// await() 이후에만 호출
+		public T get() {
+			if (completed == false) {
+				throw new IllegalStateException("await() 전에 결과를 읽을 수 없습니다 : " + name);
+			}
+			return value;
+		}
+
+		private void complete(long remainingNanos) {
+			try {
+				value = future.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				future.cancel(false);
+				fail("timeout", e);
+				if (required) {
+					throw new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.SERVICE_UNAVAILABLE);
+				}
+			} catch (ExecutionException e) {
+				fail("failure", e.getCause());
+				if (required) {
+					if (e.getCause() instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					}
+					throw new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.INTERNAL_SERVER_ERROR);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.SERVICE_UNAVAILABLE);
+			}
+			completed = true;
+		}
+
+		private void fail(String outcome, Throwable cause) {
+			meterRegistry.counter("bank.parallel.reads.failures", "read", name, "outcome", outcome).increment();
+			if (required == false) {
+				log.warn("선택 조회 실패, 기본값 사용 ({}, {}) : {}", name, outcome, String.valueOf(cause));
+			}
+		}
+	}
+}
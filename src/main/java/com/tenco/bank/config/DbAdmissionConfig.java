@@ -0,0 +1,54 @@
+package com.tenco.bank.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.tenco.bank.datasource.AdmissionControlledDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * bank.db-admission.enabled=true 일 때 DataSource 를 세마포어로 감싼다 (virtual 프로필)
+ * 허용 수 기본값은 커넥션 풀 최대 크기
+ */
+@Configuration
+@ConditionalOnProperty(name = "bank.db-admission.enabled", havingValue = "true")
+public class DbAdmissionConfig {
+
+	@Bean
+	static BeanPostProcessor admissionDataSourcePostProcessor(Environment environment) {
+		int permits = environment.getProperty("bank.db-admission.permits", Integer.class,
+				environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+		long timeoutMillis = environment.getProperty("bank.db-admission.timeout-ms", Long.class, 3000L);
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				// 커넥션 풀만 감싼다 (다른 DataSource 를 감싼 DataSource - replica 라우팅 등은 제외)
+				if (bean instanceof DataSource dataSource && (bean instanceof DelegatingDataSource) == false) {
+					return new AdmissionControlledDataSource(dataSource, permits, timeoutMillis);
+				}
+				return bean;
+			}
+		};
+	}
+
+	// replica 사용시 풀마다 (datasource 태그)
+	@Bean
+	MeterBinder admissionMetrics(Map<String, DataSource> dataSources) {
+		return registry -> dataSources.forEach((name, dataSource) -> {
+			if (dataSource instanceof AdmissionControlledDataSource admission) {
+				Gauge.builder("bank.db.admission.available", admission, AdmissionControlledDataSource::getAvailablePermits).tag("datasource", name).register(registry);
+				Gauge.builder("bank.db.admission.waiting", admission, AdmissionControlledDataSource::getWaiting).tag("datasource", name).register(registry);
+			}
+		});
+	}
+}
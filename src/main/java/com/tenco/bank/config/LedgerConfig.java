@@ -0,0 +1,33 @@
+package com.tenco.bank.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tenco.bank.history.HistoryWriter;
+import com.tenco.bank.ledger.LedgerEngine;
+import com.tenco.bank.ledger.MyBatisLedgerStore;
+import com.tenco.bank.repository.interfaces.AccountRepository;
+import com.tenco.bank.repository.interfaces.IdempotencyKeyRepository;
+
+/**
+ * bank.money.mode=LEDGER 일 때만 메모리 원장 엔진을 등록
+ */
+@Configuration
+@ConditionalOnProperty(name = "bank.money.mode", havingValue = "LEDGER")
+public class LedgerConfig {
+
+	@Bean(initMethod = "start", destroyMethod = "stop")
+	LedgerEngine ledgerEngine(AccountRepository accountRepository, HistoryWriter historyWriter, IdempotencyKeyRepository idempotencyKeyRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${bank.ledger.shards:0}") int shards, @Value("${bank.ledger.batch-size:500}") int batchSize) {
+		// 0 이면 CPU 코어 수 만큼 샤드 생성
+		int shardCount = shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+		MyBatisLedgerStore store = new MyBatisLedgerStore(accountRepository, historyWriter, idempotencyKeyRepository,
+				new TransactionTemplate(transactionManager));
+		return new LedgerEngine(store, shardCount, batchSize);
+	}
+}
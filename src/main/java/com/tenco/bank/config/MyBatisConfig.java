@@ -0,0 +1,23 @@
+package com.tenco.bank.config;
+
+import java.util.Properties;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MyBatisConfig {
+
+	// DB 별 문법이 다른 매퍼 문장 선택 (databaseId="mysql" 문장이 없으면 databaseId 없는 기본 문장 사용)
+	@Bean
+	DatabaseIdProvider databaseIdProvider() {
+		Properties properties = new Properties();
+		properties.setProperty("MySQL", "mysql");
+		properties.setProperty("H2", "h2");
+		VendorDatabaseIdProvider databaseIdProvider = new VendorDatabaseIdProvider();
+		databaseIdProvider.setProperties(properties);
+		return databaseIdProvider;
+	}
+}
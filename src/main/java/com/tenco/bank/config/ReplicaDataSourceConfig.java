@@ -0,0 +1,67 @@
+package com.tenco.bank.config;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.tenco.bank.datasource.ReadWriteRoutingDataSource;
+import com.tenco.bank.datasource.ReplicaStalenessGuard;
+import com.tenco.bank.handler.ReadYourWritesInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * bank.replica.enabled=true 일 때 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 replica 로 보낸다 (replica 프로필)
+ * primary 는 spring.datasource, replica 는 bank.replica.datasource (HikariCP 설정 이름) 를 사용한다.
+ * 스키마 변경(Flyway)은 primary 에만 적용되고 replica 는 복제로 따라온다.
+ * 로컬에서 H2 두 개로 확인할 때만 bank.replica.migrate=true 로 replica 에도 마이그레이션을 적용한다. (복제는 되지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "bank.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@ConfigurationProperties("bank.replica.datasource")
+	HikariDataSource replicaDataSource() {
+		return new HikariDataSource();
+	}
+
+	// 서비스, 매퍼, Flyway 가 사용하는 DataSource
+	@Bean
+	@Primary
+	DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, @Qualifier("replicaDataSource") DataSource replica,
+			@Value("${bank.replica.migrate:false}") boolean migrate, ObjectProvider<FlywayProperties> flywayProperties) {
+		if (migrate) {
+			FlywayProperties properties = flywayProperties.getIfAvailable(FlywayProperties::new);
+			Flyway.configure().dataSource(replica).locations(properties.getLocations().toArray(String[]::new)).load().migrate();
+		}
+		return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+	}
+
+	@Bean
+	ReplicaStalenessGuard replicaStalenessGuard(@Value("${bank.replica.max-staleness-ms:2000}") long maxStalenessMillis,
+			@Value("${bank.replica.max-tracked-users:100000}") int maxUsers) {
+		return new ReplicaStalenessGuard(maxStalenessMillis, maxUsers);
+	}
+
+	@Bean
+	ReadYourWritesInterceptor readYourWritesInterceptor(ReplicaStalenessGuard replicaStalenessGuard) {
+		return new ReadYourWritesInterceptor(replicaStalenessGuard);
+	}
+}
@@ -1,6 +1,8 @@
 package com.tenco.bank.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -9,6 +11,8 @@ import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.tenco.bank.handler.AuthInterceptor;
+import com.tenco.bank.handler.PrincipalInterceptor;
+import com.tenco.bank.handler.ReadYourWritesInterceptor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,16 +22,23 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
 	@Autowired // DI
 	private final AuthInterceptor authInterceptor;
+	private final PrincipalInterceptor principalInterceptor;
+	// replica 사용시에만 존재 (ReplicaDataSourceConfig)
+	private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
 	// @RequiredArgsConstructor <-- 생성자 대신 사용 가능
 
 	// 우리가 만들어 놓은 AuthInterceptor 를 등록해야함
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
-		registry.addInterceptor(authInterceptor).addPathPatterns("/account/**").addPathPatterns("/auth/**");
+		// principal 조회 (세션 또는 토큰) --> 인증 검사 순서
+		registry.addInterceptor(principalInterceptor).addPathPatterns("/**").excludePathPatterns("/css/**", "/js/**", "/images/**", "/h2-console/**");
+		readYourWritesInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/**"));
+		registry.addInterceptor(authInterceptor).addPathPatterns("/account/**").addPathPatterns("/auth/**").addPathPatterns("/api/**");
 	}
 
+	// cost(strength) 는 설정값, 낮은 cost 로 저장된 해시는 로그인시 다시 해시된다 (UserService)
 	@Bean // IoC 대상(싱글톤 처리)
-	PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	PasswordEncoder passwordEncoder(@Value("${bank.password.bcrypt-strength:10}") int strength) {
+		return new BCryptPasswordEncoder(strength);
 	}
 }
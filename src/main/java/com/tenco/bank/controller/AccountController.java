@@ -1,9 +1,14 @@
 package com.tenco.bank.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -13,7 +18,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.tenco.bank.dto.CursorPage;
 import com.tenco.bank.dto.DepositDTO;
+import com.tenco.bank.dto.PageResult;
 import com.tenco.bank.dto.SaveDTO;
 import com.tenco.bank.dto.TransferDTO;
 import com.tenco.bank.dto.WithdrawalDTO;
@@ -23,9 +30,11 @@ import com.tenco.bank.repository.model.Account;
 import com.tenco.bank.repository.model.HistoryAccount;
 import com.tenco.bank.repository.model.User;
 import com.tenco.bank.service.AccountService;
+import com.tenco.bank.service.StatementExportService;
 import com.tenco.bank.utils.Define;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @Controller // IoC 대상(싱글톤으로 관리)
@@ -35,8 +44,9 @@ public class AccountController {
 
 	// 계좌 생성 화면 요청 - DI 처리
 	@Autowired
-	private final HttpSession session;
+	private final HttpServletRequest request;
 	private final AccountService accountService;
+	private final StatementExportService statementExportService;
 
 	/**
 	 * 계좌 생성 페이지 요청
@@ -46,7 +56,7 @@ public class AccountController {
 	@GetMapping("/save")
 	public String savePage() {
 		// 1. 인증 검사가 필요(account 전체에 필요)
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
 		}
@@ -66,7 +76,7 @@ public class AccountController {
 		// 3. 유효성 검사
 		// 4. 서비스 호출
 
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
 		}
@@ -89,28 +99,28 @@ public class AccountController {
 	 * @return list.jsp 
 	 */
 	@GetMapping({ "/list", "/" })
-	public String listPage(@RequestParam(name = "size", defaultValue = "5") int size, @RequestParam(name = "page", defaultValue = "1") int page, Model model) {
+	public String listPage(@RequestParam(name = "size", defaultValue = "5") int size, @RequestParam(name = "cursor", required = false) String cursor, Model model) {
 
 		// 1. 인증검사 
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
 		}
 		// 2. 유효성 검사 
 		// 3. 서비스 호출 
 
-		int totalRecords = accountService.countAccountByuserId(principal.getId());
-		int totalPages = (int) Math.ceil((double) totalRecords / size);
-
-		List<Account> accountList = accountService.readAccountListByUserId(principal.getId(), page, size);
-		if (accountList.isEmpty()) {
+		// 키셋 페이징 - 커서 토큰으로 이전/다음 페이지 이동 (전체 건수와 함께 한 번에 조회)
+		PageResult<Void, Account> result = accountService.readAccountPage(principal.getId(), cursor, size);
+		CursorPage<Account> accountPage = result.getPage();
+		if (accountPage.getContent().isEmpty()) {
 			model.addAttribute("accountList", null);
 		} else {
-			model.addAttribute("accountList", accountList);
+			model.addAttribute("accountList", accountPage.getContent());
 		}
 
-		model.addAttribute("currentPage", page);
-		model.addAttribute("totalPages", totalPages);
+		model.addAttribute("prevCursor", accountPage.getPrevCursor());
+		model.addAttribute("nextCursor", accountPage.getNextCursor());
+		model.addAttribute("totalRecords", result.getTotalRecords());
 		model.addAttribute("size", size);
 
 		// JSP 데이터를 넣어 주는 방법 
@@ -122,8 +132,10 @@ public class AccountController {
 	 * @return withdrawal.jsp
 	 */
 	@GetMapping("/withdrawal")
-	public String withdrawPage() {
+	public String withdrawPage(Model model) {
 		// 1. 인증검사 
+		// 폼마다 새 요청 키 - 응답 지연으로 다시 제출해도 한 번만 처리
+		model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
 		return "account/withdrawal";
 	}
 
@@ -135,7 +147,7 @@ public class AccountController {
 	@PostMapping("/withdrawal")
 	public String withdrawalProc(WithdrawalDTO dto) {
 		// 1. 인증검사 
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
 		}
@@ -167,7 +179,8 @@ public class AccountController {
 	 * @return
 	 */
 	@GetMapping("/deposit")
-	public String depositPage() {
+	public String depositPage(Model model) {
+		model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
 		return "account/deposit";
 	}
 
@@ -179,7 +192,7 @@ public class AccountController {
 	@PostMapping("/deposit")
 	public String depositProc(DepositDTO dto) {
 		// 인증 검사
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
 		}
@@ -205,11 +218,12 @@ public class AccountController {
 	 * @return
 	 */
 	@GetMapping("/transfer")
-	public String transferPage() {
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+	public String transferPage(Model model) {
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
 		}
+		model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
 		return "account/transfer";
 	}
 
@@ -221,7 +235,7 @@ public class AccountController {
 	@PostMapping("/transfer")
 	public String transferProc(TransferDTO dto) {
 		// 인증 검사
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
 		}
@@ -252,10 +266,10 @@ public class AccountController {
 	 * 주소설계 : http://localhost:8080/account/detail/1?type=all, deposit, withdraw
 	 */
 	@GetMapping("/detail/{accountId}")
-	public String detail(@PathVariable(name = "accountId") Integer accountId, @RequestParam(required = false, name = "type") String type, @RequestParam(name = "page", defaultValue = "1") int page,
-			@RequestParam(name = "size", defaultValue = "2") int size, Model model) {
+	public String detail(@PathVariable(name = "accountId") Integer accountId, @RequestParam(required = false, name = "type") String type,
+			@RequestParam(name = "cursor", required = false) String cursor, @RequestParam(name = "size", defaultValue = "2") int size, Model model) {
 		// 인증 검사
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
 		}
@@ -266,21 +280,46 @@ public class AccountController {
 			throw new DataDeliveryException("유효하지 않은 접근 입니다", HttpStatus.BAD_REQUEST);
 		}
 
-		// 페이지 갯수를 계산하기 위해서 총 페이지 수를 계산해주어야한다.
-		int totalRecords = accountService.countHistoryByAccountIdAndType(type, accountId);
-		int totalPages = (int) Math.ceil((double) totalRecords / size);
-
-		Account account = accountService.readAccountById(accountId);
-		List<HistoryAccount> historyList = accountService.readHistoryByAccountId(type, accountId, page, size);
+		// 계좌 정보 + 전체 건수(화면 표시용) + 거래 내역 페이지를 한 번에 조회
+		PageResult<Account, HistoryAccount> result = accountService.readHistoryPage(type, accountId, cursor, size);
+		CursorPage<HistoryAccount> historyPage = result.getPage();
 
-		model.addAttribute("account", account);
-		model.addAttribute("historyList", historyList);
+		model.addAttribute("account", result.getHeader());
+		model.addAttribute("historyList", historyPage.getContent());
 
-		model.addAttribute("currentPage", page);
-		model.addAttribute("totalPages", totalPages);
+		model.addAttribute("prevCursor", historyPage.getPrevCursor());
+		model.addAttribute("nextCursor", historyPage.getNextCursor());
+		model.addAttribute("totalRecords", result.getTotalRecords());
 		model.addAttribute("type", type);
 		model.addAttribute("size", size);
 
 		return "account/detail";
 	}
+
+	/**
+	 * 거래명세서 CSV 다운로드 (기간 전체를 스트리밍)
+	 * 주소 설계 : http://localhost:8080/account/statement/1?from=2024-01-01&to=2024-12-31
+	 * @param from 시작일 (생략시 처음부터)
+	 * @param to 종료일 (생략시 오늘까지)
+	 */
+	@GetMapping("/statement/{accountId}")
+	public void statement(@PathVariable(name = "accountId") Integer accountId,
+			@RequestParam(name = "from", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+			@RequestParam(name = "to", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate to, HttpServletResponse response) throws IOException {
+		// 인증 검사
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
+		if (principal == null) {
+			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
+		}
+		// 유효성 검사
+		if (from != null && to != null && from.isAfter(to)) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		// 응답을 쓰기 시작하면 오류 화면을 보낼 수 없으므로 소유자 확인을 먼저 한다.
+		Account account = statementExportService.readOwnedAccount(accountId, principal.getId());
+
+		response.setContentType("text/csv; charset=UTF-8");
+		response.setHeader("Content-Disposition", "attachment; filename=\"statement-" + account.getNumber() + ".csv\"");
+		statementExportService.exportCsv(account, from, to, response.getWriter());
+	}
 }
@@ -8,6 +8,9 @@ import com.tenco.bank.handler.exception.DataDeliveryException;
 import com.tenco.bank.handler.exception.RedirectException;
 import com.tenco.bank.handler.exception.UnAuthorizedException;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Controller // IoC 대상(싱글톤 패턴 관리가 된다.) --> 제어의 역전
 public class MainController {
 	// REST API 기반으로 주소설계 가능
@@ -17,7 +20,7 @@ public class MainController {
 	@GetMapping({ "/main-page", "/index" })
 	//	@ResponseBody
 	public String mainPage() {
-		System.out.println("mainPage() 호출 확인");
+		log.debug("mainPage() 호출 확인");
 		// [JSP 파일 찾기 (yml 설정) ] - 뷰 리졸버
 		// prefix: /WEB-INF/view
 		//         /main
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import com.tenco.bank.auth.PrincipalStore;
 import com.tenco.bank.dto.SignInDTO;
 import com.tenco.bank.dto.SignUpDTO;
 import com.tenco.bank.handler.exception.DataDeliveryException;
@@ -14,7 +15,8 @@ import com.tenco.bank.repository.model.User;
 import com.tenco.bank.service.UserService;
 import com.tenco.bank.utils.Define;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @Controller // IoC 대상(싱글톤 패턴으로 관리됨)
@@ -23,8 +25,9 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
 	@Autowired
-	private final HttpSession session;
+	private final HttpServletRequest request;
 	private final UserService userService;
+	private final PrincipalStore principalStore;
 
 	/**
 	 * 회원 가입 페이지 요청
@@ -74,7 +77,7 @@ public class UserController {
 	 * @return
 	 */
 	@PostMapping("/sign-in")
-	public String signInProc(SignInDTO dto) {
+	public String signInProc(SignInDTO dto, HttpServletResponse response) {
 		if (dto.getUsername() == null || dto.getUsername().isEmpty()) {
 			throw new DataDeliveryException(Define.ENTER_YOUR_USERNAME, HttpStatus.BAD_REQUEST);
 		}
@@ -83,7 +86,8 @@ public class UserController {
 		}
 		User principal = userService.readUser(dto);
 
-		session.setAttribute("principal", principal);
+		// 세션 또는 서명 토큰 쿠키 (bank.auth.mode)
+		principalStore.signIn(principal, request, response);
 
 		return "redirect:/account/list";
 	}
@@ -93,8 +97,8 @@ public class UserController {
 	 * @return
 	 */
 	@GetMapping("/logout")
-	public String logout() {
-		session.invalidate(); // 로그아웃 됨
+	public String logout(HttpServletResponse response) {
+		principalStore.signOut(request, response);
 		return "redirect:/user/sign-in";
 	}
 
@@ -0,0 +1,191 @@
+package com.tenco.bank.controller.api;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tenco.bank.dto.BatchTransferResult;
+import com.tenco.bank.dto.CursorPage;
+import com.tenco.bank.dto.DepositDTO;
+import com.tenco.bank.dto.TransferDTO;
+import com.tenco.bank.dto.WithdrawalDTO;
+import com.tenco.bank.dto.api.AccountHistoryResponse;
+import com.tenco.bank.dto.api.AccountResponse;
+import com.tenco.bank.dto.api.ApiResponse;
+import com.tenco.bank.dto.api.BalanceResponse;
+import com.tenco.bank.dto.api.BatchTransferRequest;
+import com.tenco.bank.dto.api.DepositRequest;
+import com.tenco.bank.dto.api.TransferRequest;
+import com.tenco.bank.dto.api.WithdrawalRequest;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.handler.exception.UnAuthorizedException;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.repository.model.User;
+import com.tenco.bank.service.AccountReadFacade;
+import com.tenco.bank.service.AccountService;
+import com.tenco.bank.utils.Define;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 계좌 REST API (JSON)
+ * 내부 시스템 연동용 - 화면 이동(redirect) 대신 JSON 결과와 오류 코드(ApiExceptionAdvice)를 반환한다.
+ * 인증은 화면과 동일 (세션 또는 토큰 쿠키, AuthInterceptor)
+ * 출금, 입금, 이체는 Idempotency-Key 헤더를 보내면 재요청시 다시 처리하지 않고 처음 결과를 반환한다.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class AccountApiController {
+
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	private final HttpServletRequest request;
+	private final AccountService accountService;
+	private final AccountReadFacade accountReadFacade;
+	private final int batchMaxItems;
+
+	public AccountApiController(HttpServletRequest request, AccountService accountService, AccountReadFacade accountReadFacade,
+			@Value("${bank.api.batch-max-items:1000}") int batchMaxItems) {
+		this.request = request;
+		this.accountService = accountService;
+		this.accountReadFacade = accountReadFacade;
+		this.batchMaxItems = batchMaxItems;
+	}
+
+	/**
+	 * 계좌 목록
+	 * GET /api/v1/accounts?cursor=&size=10
+	 */
+	@GetMapping("/accounts")
+	public ApiResponse<CursorPage<AccountResponse>> accounts(@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") int size) {
+		User principal = principal();
+		CursorPage<Account> page = accountService.readAccountListByUserId(principal.getId(), cursor, size);
+		List<AccountResponse> content = page.getContent().stream().map(AccountResponse::of).toList();
+		return ApiResponse.ok(new CursorPage<>(content, page.getPrevCursor(), page.getNextCursor()));
+	}
+
+	/**
+	 * 거래 내역 (본인 계좌만)
+	 * GET /api/v1/accounts/{accountId}/history?type=all&cursor=&size=10
+	 */
+	@GetMapping("/accounts/{accountId}/history")
+	public ApiResponse<AccountHistoryResponse> history(@PathVariable(name = "accountId") Integer accountId,
+			@RequestParam(name = "type", defaultValue = "all") String type, @RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") int size) {
+		User principal = principal();
+		if (List.of("all", "deposit", "withdrawal").contains(type) == false) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		return ApiResponse.ok(AccountHistoryResponse.of(accountReadFacade.readOwnedHistory(principal.getId(), type, accountId, cursor, size)));
+	}
+
+	/**
+	 * 과거 시점 잔액 (본인 계좌만)
+	 * GET /api/v1/accounts/{accountId}/balance?at=2024-08-01T18:00:00
+	 */
+	@GetMapping("/accounts/{accountId}/balance")
+	public ApiResponse<BalanceResponse> balanceAt(@PathVariable(name = "accountId") Integer accountId,
+			@RequestParam(name = "at") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime at) {
+		User principal = principal();
+		return ApiResponse.ok(new BalanceResponse(accountReadFacade.readOwnedBalanceAt(principal.getId(), accountId, Timestamp.valueOf(at))));
+	}
+
+	/**
+	 * 출금
+	 * POST /api/v1/withdrawals { "accountNumber": "1111", "password": "1234", "amount": 1000 }
+	 */
+	@PostMapping("/withdrawals")
+	public ApiResponse<BalanceResponse> withdraw(@RequestBody WithdrawalRequest body,
+			@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		User principal = principal();
+		checkAmount(body.amount(), Define.W_BALANCE_VALUE);
+		checkText(body.accountNumber(), Define.ENTER_YOUR_ACCOUNT_NUMBER);
+		checkText(body.password(), Define.ENTER_YOUR_PASSWORD);
+		WithdrawalDTO dto = body.toWithdrawalDTO();
+		dto.setIdempotencyKey(idempotencyKey);
+		return ApiResponse.ok(new BalanceResponse(accountService.updateAccountWithdraw(dto, principal.getId())));
+	}
+
+	/**
+	 * 입금
+	 * POST /api/v1/deposits { "accountNumber": "1111", "amount": 1000 }
+	 */
+	@PostMapping("/deposits")
+	public ApiResponse<BalanceResponse> deposit(@RequestBody DepositRequest body,
+			@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		User principal = principal();
+		checkAmount(body.amount(), Define.D_BALANCE_VALUE);
+		checkText(body.accountNumber(), Define.ENTER_YOUR_ACCOUNT_NUMBER);
+		DepositDTO dto = body.toDepositDTO();
+		dto.setIdempotencyKey(idempotencyKey);
+		return ApiResponse.ok(new BalanceResponse(accountService.updateAccountDeposit(dto, principal.getId())));
+	}
+
+	/**
+	 * 이체
+	 * POST /api/v1/transfers { "fromAccountNumber": "1111", "toAccountNumber": "2222", "password": "1234", "amount": 1000 }
+	 */
+	@PostMapping("/transfers")
+	public ApiResponse<BalanceResponse> transfer(@RequestBody TransferRequest body,
+			@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		User principal = principal();
+		checkAmount(body.amount(), Define.W_BALANCE_VALUE);
+		checkText(body.fromAccountNumber(), Define.ENTER_YOUR_ACCOUNT_NUMBER);
+		checkText(body.toAccountNumber(), Define.ENTER_YOUR_ACCOUNT_NUMBER);
+		checkText(body.password(), Define.ENTER_YOUR_PASSWORD);
+		TransferDTO dto = body.toTransferDTO();
+		dto.setIdempotencyKey(idempotencyKey);
+		return ApiResponse.ok(new BalanceResponse(accountService.updateAccountTransfer(dto, principal.getId())));
+	}
+
+	/**
+	 * 일괄 이체 - 항목별 결과 반환 (일부 실패해도 나머지는 처리)
+	 * POST /api/v1/transfers/batch { "items": [ {...}, {...} ] }
+	 */
+	@PostMapping("/transfers/batch")
+	public ApiResponse<List<BatchTransferResult>> transferBatch(@RequestBody BatchTransferRequest body) {
+		User principal = principal();
+		if (body.items() == null || body.items().isEmpty() || body.items().size() > batchMaxItems) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		List<TransferDTO> items = body.items().stream().map(item -> item == null ? new TransferDTO() : item.toTransferDTO()).toList();
+		return ApiResponse.ok(accountService.transferBatch(items, principal.getId()));
+	}
+
+	private User principal() {
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
+		if (principal == null) {
+			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
+		}
+		return principal;
+	}
+
+	private void checkAmount(Long amount, String message) {
+		if (amount == null) {
+			throw new DataDeliveryException(Define.ENTER_YOUR_BALANCE, HttpStatus.BAD_REQUEST);
+		}
+		if (amount.longValue() <= 0) {
+			throw new DataDeliveryException(message, HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	private void checkText(String value, String message) {
+		if (value == null || value.isEmpty()) {
+			throw new DataDeliveryException(message, HttpStatus.BAD_REQUEST);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.tenco.bank.controller.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tenco.bank.dto.api.ApiResponse;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.handler.exception.UnAuthorizedException;
+import com.tenco.bank.ingest.PaymentFileFormat;
+import com.tenco.bank.ingest.PaymentFileIngestService;
+import com.tenco.bank.repository.model.IngestJob;
+import com.tenco.bank.repository.model.User;
+import com.tenco.bank.utils.Define;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 이체 파일 처리 API
+ * 파일은 bank.ingest.directory 에 먼저 올려두고 이름으로 요청한다.
+ */
+@RestController
+@RequestMapping("/api/v1/ingest")
+@RequiredArgsConstructor
+public class IngestApiController {
+
+	private final HttpServletRequest request;
+	private final PaymentFileIngestService paymentFileIngestService;
+
+	/**
+	 * 처리 시작
+	 * POST /api/v1/ingest?file=payroll-0801.csv&format=CSV
+	 */
+	@PostMapping
+	public ApiResponse<IngestJob> start(@RequestParam(name = "file") String file, @RequestParam(name = "format", defaultValue = "CSV") String format) {
+		User principal = principal();
+		PaymentFileFormat fileFormat;
+		try {
+			fileFormat = PaymentFileFormat.valueOf(format.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		return ApiResponse.ok(paymentFileIngestService.start(principal.getId(), file, fileFormat));
+	}
+
+	/**
+	 * 진행 상황 (처리한 줄 번호, 성공/실패 건수, 상태)
+	 * GET /api/v1/ingest/{jobId}
+	 */
+	@GetMapping("/{jobId}")
+	public ApiResponse<IngestJob> status(@PathVariable(name = "jobId") Integer jobId) {
+		return ApiResponse.ok(paymentFileIngestService.readJob(jobId, principal().getId()));
+	}
+
+	/**
+	 * 중단된 작업 이어서 처리
+	 * POST /api/v1/ingest/{jobId}/resume
+	 */
+	@PostMapping("/{jobId}/resume")
+	public ApiResponse<IngestJob> resume(@PathVariable(name = "jobId") Integer jobId) {
+		return ApiResponse.ok(paymentFileIngestService.resume(jobId, principal().getId()));
+	}
+
+	private User principal() {
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
+		if (principal == null) {
+			throw new UnAuthorizedException(Define.NOT_AN_AUTHENTICATED_USER, HttpStatus.UNAUTHORIZED);
+		}
+		return principal;
+	}
+}
@@ -0,0 +1,98 @@
+package com.tenco.bank.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 수 만큼만 DB 접근을 허용하는 DataSource
+ * 가상 스레드는 요청 수 만큼 생성되므로 모두 커넥션 풀에서 경쟁하지 않도록
+ * 세마포어(풀 크기)를 먼저 얻은 스레드만 getConnection 을 호출하고, close 시 반납한다.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final int maxPermits;
+	private final long timeoutMillis;
+
+	public AdmissionControlledDataSource(DataSource target, int maxPermits, long timeoutMillis) {
+		super(target);
+		this.permits = new Semaphore(maxPermits, true);
+		this.maxPermits = maxPermits;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return releasing(super.getConnection());
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return releasing(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	private void acquire() throws SQLException {
+		try {
+			if (permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS) == false) {
+				throw new SQLTransientConnectionException("DB 접근 대기 시간 초과 (" + timeoutMillis + "ms, 대기 " + permits.getQueueLength() + ")");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("DB 접근 대기 중 인터럽트", e);
+		}
+	}
+
+	// close() 가 처음 호출될 때 한 번만 반납
+	private Connection releasing(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+			if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+				try {
+					connection.close();
+				} finally {
+					permits.release();
+				}
+				return null;
+			}
+			try {
+				return method.invoke(connection, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		});
+	}
+
+	public int getAvailablePermits() {
+		return permits.availablePermits();
+	}
+
+	public int getMaxPermits() {
+		return maxPermits;
+	}
+
+	public int getWaiting() {
+		return permits.getQueueLength();
+	}
+}
@@ -0,0 +1,109 @@
+package com.tenco.bank.datasource;
+
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 스레드(요청)의 읽기 라우팅 상태
+ * - primaryOnly : 최근에 쓰기를 한 유저의 요청 (읽기 전용 트랜잭션도 primary 사용)
+ * - userId : 요청 유저 - 쓰기가 커밋되면 바로 유저의 쓰기 시각을 기록한다. (응답 전에 기록되므로 다음 요청부터 primary 에서 읽는다)
+ * 요청 밖(예약 작업 등)에서는 상태가 없으며 읽기 전용 트랜잭션은 replica 를 사용한다.
+ */
+public final class ReadRouting {
+
+	private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+
+	private ReadRouting() {
+	}
+
+	private static final class State {
+		private final Integer userId;
+		private final ReplicaStalenessGuard guard;
+		private final boolean primaryOnly;
+
+		private State(Integer userId, ReplicaStalenessGuard guard) {
+			this.userId = userId;
+			this.guard = guard;
+			this.primaryOnly = userId != null && guard.mustReadPrimary(userId);
+		}
+
+		private void recordWrite() {
+			if (userId != null) {
+				guard.recordWrite(userId);
+			}
+		}
+	}
+
+	/**
+	 * 요청 시작
+	 * @param userId 로그인 유저 (없으면 null)
+	 * @param guard 유저별 쓰기 시각
+	 */
+	public static void begin(Integer userId, ReplicaStalenessGuard guard) {
+		STATE.set(new State(userId, guard));
+	}
+
+	public static void end() {
+		STATE.remove();
+	}
+
+	public static boolean isPrimaryOnly() {
+		State state = STATE.get();
+		return state != null && state.primaryOnly;
+	}
+
+	/**
+	 * 현재 요청 유저의 쓰기 시각 기록 (쓰기가 커밋된 후 호출)
+	 * 요청 스레드의 트랜잭션은 ReadWriteRoutingDataSource 가 커밋 시점에 기록한다.
+	 * 다른 스레드에서 커밋되는 쓰기(원장 저장)는 요청 스레드가 저장 완료를 기다린 후 직접 호출한다.
+	 */
+	public static void recordWrite() {
+		State state = STATE.get();
+		if (state != null) {
+			state.recordWrite();
+		}
+	}
+
+	// 읽기/쓰기 트랜잭션이 primary 커넥션을 사용할 때 - 커밋되면 기록 (롤백되면 기록하지 않음)
+	static void recordWriteOnCommit() {
+		State state = STATE.get();
+		if (state == null || state.userId == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive() == false) {
+			state.recordWrite();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				state.recordWrite();
+			}
+		});
+	}
+
+	/**
+	 * 다른 스레드에서 실행할 조회에 현재 요청의 라우팅 상태를 전달 (ParallelReads)
+	 */
+	public static <T> Supplier<T> wrap(Supplier<T> read) {
+		State state = STATE.get();
+		if (state == null) {
+			return read;
+		}
+		return () -> {
+			State previous = STATE.get();
+			STATE.set(state);
+			try {
+				return read.get();
+			} finally {
+				if (previous == null) {
+					STATE.remove();
+				} else {
+					STATE.set(previous);
+				}
+			}
+		};
+	}
+}
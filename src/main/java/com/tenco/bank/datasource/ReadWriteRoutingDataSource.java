@@ -0,0 +1,36 @@
+package com.tenco.bank.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보내는 DataSource
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서
+ * 첫 statement 실행 시점에 커넥션을 고르게 해야 한다. (ReplicaDataSourceConfig)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	public static final String PRIMARY = "primary";
+	public static final String REPLICA = "replica";
+
+	public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return ReadRouting.isPrimaryOnly() ? PRIMARY : REPLICA;
+		}
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			ReadRouting.recordWriteOnCommit();
+		}
+		return PRIMARY;
+	}
+}
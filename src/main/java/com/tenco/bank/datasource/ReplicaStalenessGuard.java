@@ -0,0 +1,35 @@
+package com.tenco.bank.datasource;
+
+import com.tenco.bank.utils.LruCache;
+
+/**
+ * 유저별 마지막 쓰기 시각 - 쓰기 직후에는 replica 가 아직 따라오지 못했을 수 있으므로
+ * max-staleness 동안 그 유저의 읽기는 primary 에서 처리한다. (자기가 쓴 내용은 바로 보이도록)
+ * 서버 메모리에 보관하므로 여러 서버 운영시에는 같은 유저의 요청이 같은 서버로 가야 보장된다.
+ */
+public class ReplicaStalenessGuard {
+
+	private final long maxStalenessMillis;
+	private final LruCache<Integer, Long> lastWriteMillis;
+
+	public ReplicaStalenessGuard(long maxStalenessMillis, int maxUsers) {
+		this.maxStalenessMillis = maxStalenessMillis;
+		this.lastWriteMillis = new LruCache<>(maxUsers);
+	}
+
+	public void recordWrite(Integer userId) {
+		lastWriteMillis.put(userId, System.currentTimeMillis());
+	}
+
+	public boolean mustReadPrimary(Integer userId) {
+		Long writtenAt = lastWriteMillis.get(userId);
+		if (writtenAt == null) {
+			return false;
+		}
+		if (System.currentTimeMillis() - writtenAt >= maxStalenessMillis) {
+			lastWriteMillis.remove(userId);
+			return false;
+		}
+		return true;
+	}
+}
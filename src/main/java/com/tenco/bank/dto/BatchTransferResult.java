@@ -0,0 +1,30 @@
+package com.tenco.bank.dto;
+
+import com.tenco.bank.handler.ApiErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 일괄 이체 항목별 처리 결과
+ */
+@Data
+@AllArgsConstructor
+public class BatchTransferResult {
+	private int index; // 요청 목록 순서 (0 부터)
+	private boolean success;
+	private String message; // 실패 사유 (성공이면 null)
+	private Long balance; // 이체 후 출금 계좌 잔액 (실패면 null)
+
+	public static BatchTransferResult success(int index, Long balance) {
+		return new BatchTransferResult(index, true, null, balance);
+	}
+
+	public static BatchTransferResult failure(int index, String message) {
+		return new BatchTransferResult(index, false, message, null);
+	}
+
+	public String getCode() {
+		return success ? ApiErrorCode.OK.name() : ApiErrorCode.of(message).name();
+	}
+}
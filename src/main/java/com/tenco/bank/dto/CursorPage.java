@@ -0,0 +1,70 @@
+package com.tenco.bank.dto;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.tenco.bank.utils.PageCursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 키셋 페이징 결과 - 현재 페이지 목록과 이전/다음 커서 토큰
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+	private List<T> content;
+	private String prevCursor; // 없으면 null
+	private String nextCursor; // 없으면 null
+
+	/**
+	 * 이전 방향으로 조회했는데 size + 1 건이 안 되면 맨 앞에 도달한 것 - 첫 페이지(커서 없음)로 다시 조회해야 한다.
+	 * (앞쪽 행이 모자란 짧은 페이지 대신 첫 페이지를 보여주고, 다음 페이지 여부도 그 조회 결과로 판단)
+	 * @param rows 조회 결과 (최대 size + 1 건)
+	 * @param size 페이지 크기
+	 * @param cursor 요청 커서
+	 */
+	public static boolean reachedStart(List<?> rows, int size, PageCursor cursor) {
+		return cursor != null && cursor.isBackward() && rows.size() <= size;
+	}
+
+	/**
+	 * size + 1 건을 조회한 결과로 페이지 생성
+	 * backward 커서로 조회한 목록은 역순으로 조회되어 있으므로 뒤집어서 화면 순서로 맞춘다.
+	 * 조회 방향의 다음 존재 여부는 size + 1 번째 행으로, 반대 방향은 커서 행(이전 페이지의 경계 행)으로 판단한다.
+	 * @param rows 조회 결과 (최대 size + 1 건)
+	 * @param size 페이지 크기
+	 * @param cursor 요청 커서 (첫 페이지면 null)
+	 */
+	public static <T> CursorPage<T> of(List<T> rows, int size, PageCursor cursor, Function<T, Timestamp> createdAt, Function<T, Integer> id) {
+		boolean hasMore = rows.size() > size;
+		List<T> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+		boolean backward = cursor != null && cursor.isBackward();
+		if (backward) {
+			Collections.reverse(content);
+		}
+		if (content.isEmpty()) {
+			if (cursor == null) {
+				return new CursorPage<>(content, null, null);
+			}
+			// 커서 뒤가 비어 있는 경우(삭제 등) - 커서 위치에서 되돌아갈 수 있는 커서만 남긴다.
+			if (backward) {
+				return new CursorPage<>(content, null, PageCursor.next(cursor.getCreatedAt(), cursor.getId()).encode());
+			}
+			return new CursorPage<>(content, PageCursor.prev(cursor.getCreatedAt(), cursor.getId()).encode(), null);
+		}
+		T first = content.get(0);
+		T last = content.get(content.size() - 1);
+		// 조회 방향 : 더 있으면(size + 1 번째 행) 존재
+		// 반대 방향 : 커서가 있으면(커서 행) 존재
+		boolean hasPrev = backward ? hasMore : cursor != null;
+		boolean hasNext = backward ? cursor != null : hasMore;
+		String prevCursor = hasPrev ? PageCursor.prev(createdAt.apply(first), id.apply(first)).encode() : null;
+		String nextCursor = hasNext ? PageCursor.next(createdAt.apply(last), id.apply(last)).encode() : null;
+		return new CursorPage<>(content, prevCursor, nextCursor);
+	}
+}
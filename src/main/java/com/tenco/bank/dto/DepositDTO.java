@@ -6,4 +6,5 @@ import lombok.Data;
 public class DepositDTO {
 	private Long amount;
 	private String dAccountNumber;
+	private String idempotencyKey; // 재요청 중복 방지 키 (선택)
 }
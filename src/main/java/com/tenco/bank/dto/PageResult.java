@@ -0,0 +1,15 @@
+package com.tenco.bank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 목록 화면 결과 - 헤더 + 전체 건수 + 키셋 페이지
+ */
+@Data
+@AllArgsConstructor
+public class PageResult<H, T> {
+	private H header;
+	private int totalRecords;
+	private CursorPage<T> page;
+}
@@ -0,0 +1,16 @@
+package com.tenco.bank.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 페이지 조회 결과 (매퍼 resultMap 매핑용)
+ * 헤더, 전체 건수, 페이지 행(size + 1 건)을 한 번의 쿼리로 읽는다.
+ */
+@Data
+public class PageRows<H, T> {
+	private H header; // 계좌 상세 : 계좌 정보, 계좌 목록 : 없음
+	private int totalRecords; // 카운터 행이 없으면 -1
+	private List<T> rows;
+}
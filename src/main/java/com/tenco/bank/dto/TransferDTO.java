@@ -8,4 +8,5 @@ public class TransferDTO {
 	private String password; // 출금 계좌 비밀번호
 	private String dAccountNumber; // 입금 계좌 번호
 	private Long amount; // 거래 금액
+	private String idempotencyKey; // 재요청 중복 방지 키 (선택)
 }
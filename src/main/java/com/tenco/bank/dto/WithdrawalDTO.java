@@ -16,4 +16,5 @@ public class WithdrawalDTO {
 	private Long amount;
 	private String wAccountNumber;
 	private String wAccountPassword;
+	private String idempotencyKey; // 재요청 중복 방지 키 (선택)
 }
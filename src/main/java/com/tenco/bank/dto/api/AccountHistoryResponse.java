@@ -0,0 +1,17 @@
+package com.tenco.bank.dto.api;
+
+import com.tenco.bank.dto.CursorPage;
+import com.tenco.bank.dto.PageResult;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.repository.model.HistoryAccount;
+
+/**
+ * 거래 내역 응답 (계좌 정보 + 전체 건수 + 거래 내역 페이지)
+ * totalRecords 는 건수 조회에 실패하면 -1
+ */
+public record AccountHistoryResponse(AccountResponse account, int totalRecords, CursorPage<HistoryAccount> history) {
+
+	public static AccountHistoryResponse of(PageResult<Account, HistoryAccount> result) {
+		return new AccountHistoryResponse(AccountResponse.of(result.getHeader()), result.getTotalRecords(), result.getPage());
+	}
+}
@@ -0,0 +1,15 @@
+package com.tenco.bank.dto.api;
+
+import java.sql.Timestamp;
+
+import com.tenco.bank.repository.model.Account;
+
+/**
+ * 계좌 응답 (비밀번호 제외)
+ */
+public record AccountResponse(Integer id, String number, Long balance, Timestamp createdAt) {
+
+	public static AccountResponse of(Account account) {
+		return new AccountResponse(account.getId(), account.getNumber(), account.getBalance(), account.getCreatedAt());
+	}
+}
@@ -0,0 +1,27 @@
+package com.tenco.bank.dto.api;
+
+import com.tenco.bank.handler.ApiErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * /api/v1 공통 응답
+ * 성공 : { "code": "OK", "message": null, "data": ... }
+ * 실패 : { "code": "INSUFFICIENT_BALANCE", "message": "출금 잔액이 부족 합니다.", "data": null }
+ */
+@Data
+@AllArgsConstructor
+public class ApiResponse<T> {
+	private String code;
+	private String message;
+	private T data;
+
+	public static <T> ApiResponse<T> ok(T data) {
+		return new ApiResponse<>(ApiErrorCode.OK.name(), null, data);
+	}
+
+	public static <T> ApiResponse<T> error(ApiErrorCode code, String message) {
+		return new ApiResponse<>(code.name(), message, null);
+	}
+}
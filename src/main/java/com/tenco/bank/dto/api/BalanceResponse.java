@@ -0,0 +1,9 @@
+package com.tenco.bank.dto.api;
+
+/**
+ * 잔액 응답
+ * 출금, 입금, 이체는 거래 후 잔액 (이체는 출금 계좌, Idempotency-Key 재요청이면 처음 처리했을 때의 잔액)
+ * 과거 시점 조회는 그 시각의 잔액
+ */
+public record BalanceResponse(Long balance) {
+}
@@ -0,0 +1,10 @@
+package com.tenco.bank.dto.api;
+
+import java.util.List;
+
+/**
+ * 일괄 이체 요청 (JSON)
+ * { "items": [ { "fromAccountNumber": "1111", "toAccountNumber": "2222", "password": "1234", "amount": 100 }, ... ] }
+ */
+public record BatchTransferRequest(List<TransferRequest> items) {
+}
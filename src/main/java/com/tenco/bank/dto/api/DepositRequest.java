@@ -0,0 +1,16 @@
+package com.tenco.bank.dto.api;
+
+import com.tenco.bank.dto.DepositDTO;
+
+/**
+ * 입금 요청 (JSON)
+ */
+public record DepositRequest(String accountNumber, Long amount) {
+
+	public DepositDTO toDepositDTO() {
+		DepositDTO dto = new DepositDTO();
+		dto.setDAccountNumber(accountNumber);
+		dto.setAmount(amount);
+		return dto;
+	}
+}
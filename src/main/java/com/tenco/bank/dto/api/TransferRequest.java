@@ -0,0 +1,18 @@
+package com.tenco.bank.dto.api;
+
+import com.tenco.bank.dto.TransferDTO;
+
+/**
+ * 이체 요청 (JSON)
+ */
+public record TransferRequest(String fromAccountNumber, String toAccountNumber, String password, Long amount) {
+
+	public TransferDTO toTransferDTO() {
+		TransferDTO dto = new TransferDTO();
+		dto.setWAccountNumber(fromAccountNumber);
+		dto.setDAccountNumber(toAccountNumber);
+		dto.setPassword(password);
+		dto.setAmount(amount);
+		return dto;
+	}
+}
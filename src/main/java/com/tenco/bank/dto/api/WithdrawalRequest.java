@@ -0,0 +1,13 @@
+package com.tenco.bank.dto.api;
+
+import com.tenco.bank.dto.WithdrawalDTO;
+
+/**
+ * 출금 요청 (JSON)
+ */
+public record WithdrawalRequest(String accountNumber, String password, Long amount) {
+
+	public WithdrawalDTO toWithdrawalDTO() {
+		return WithdrawalDTO.builder().wAccountNumber(accountNumber).wAccountPassword(password).amount(amount).build();
+	}
+}
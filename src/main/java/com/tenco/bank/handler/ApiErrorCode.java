@@ -0,0 +1,62 @@
+package com.tenco.bank.handler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+import com.tenco.bank.utils.Define;
+
+/**
+ * /api/v1 오류 코드
+ * 예외는 메시지(Define 상수)와 상태 코드만 가지고 있으므로 메시지로 코드를 찾는다.
+ */
+public enum ApiErrorCode {
+	OK,
+	INVALID_INPUT,
+	UNAUTHORIZED,
+	ACCOUNT_NOT_FOUND,
+	INVALID_ACCOUNT_PASSWORD,
+	NOT_ACCOUNT_OWNER,
+	INSUFFICIENT_BALANCE,
+	DUPLICATE_REQUEST_IN_PROGRESS,
+	IDEMPOTENCY_KEY_REUSED,
+	CONCURRENT_UPDATE_CONFLICT,
+	TOO_MANY_REQUESTS,
+	BAD_REQUEST,
+	INTERNAL_ERROR;
+
+	private static final Map<String, ApiErrorCode> BY_MESSAGE = new HashMap<>();
+
+	static {
+		BY_MESSAGE.put(Define.NOT_EXIST_ACCOUNT, ACCOUNT_NOT_FOUND);
+		BY_MESSAGE.put(Define.FAIL_ACCOUNT_PASSWROD, INVALID_ACCOUNT_PASSWORD);
+		BY_MESSAGE.put(Define.NOT_ACCOUNT_OWNER, NOT_ACCOUNT_OWNER);
+		BY_MESSAGE.put(Define.LACK_Of_BALANCE, INSUFFICIENT_BALANCE);
+		BY_MESSAGE.put(Define.DUPLICATE_REQUEST_IN_PROGRESS, DUPLICATE_REQUEST_IN_PROGRESS);
+		BY_MESSAGE.put(Define.IDEMPOTENCY_KEY_REUSED, IDEMPOTENCY_KEY_REUSED);
+		BY_MESSAGE.put(Define.CONCURRENT_UPDATE_CONFLICT, CONCURRENT_UPDATE_CONFLICT);
+		BY_MESSAGE.put(Define.TOO_MANY_LOGIN_REQUESTS, TOO_MANY_REQUESTS);
+		BY_MESSAGE.put(Define.ENTER_YOUR_LOGIN, UNAUTHORIZED);
+		BY_MESSAGE.put(Define.NOT_AN_AUTHENTICATED_USER, UNAUTHORIZED);
+		BY_MESSAGE.put(Define.ENTER_YOUR_ACCOUNT_NUMBER, INVALID_INPUT);
+		BY_MESSAGE.put(Define.ENTER_YOUR_PASSWORD, INVALID_INPUT);
+		BY_MESSAGE.put(Define.ENTER_YOUR_BALANCE, INVALID_INPUT);
+		BY_MESSAGE.put(Define.D_BALANCE_VALUE, INVALID_INPUT);
+		BY_MESSAGE.put(Define.W_BALANCE_VALUE, INVALID_INPUT);
+		BY_MESSAGE.put(Define.SAME_ACCOUNT_TRANSFER, INVALID_INPUT);
+		BY_MESSAGE.put(Define.INVALID_INPUT, INVALID_INPUT);
+	}
+
+	public static ApiErrorCode of(String message) {
+		return BY_MESSAGE.getOrDefault(message, BAD_REQUEST);
+	}
+
+	public static ApiErrorCode of(String message, HttpStatus status) {
+		ApiErrorCode code = BY_MESSAGE.get(message);
+		if (code != null) {
+			return code;
+		}
+		return status.is5xxServerError() ? INTERNAL_ERROR : BAD_REQUEST;
+	}
+}
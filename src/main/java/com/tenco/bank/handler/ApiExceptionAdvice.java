@@ -0,0 +1,67 @@
+package com.tenco.bank.handler;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.tenco.bank.controller.api.AccountApiController;
+import com.tenco.bank.dto.api.ApiResponse;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.handler.exception.RedirectException;
+import com.tenco.bank.handler.exception.UnAuthorizedException;
+import com.tenco.bank.utils.Define;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * /api/v1 컨트롤러 전용 예외 처리 - alert 스크립트 대신 JSON 오류 코드
+ * GlobalControllerAdvice 보다 먼저 적용되도록 우선 순위를 높인다.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(basePackageClasses = AccountApiController.class)
+@RequiredArgsConstructor
+public class ApiExceptionAdvice {
+
+	private final MeterRegistry meterRegistry;
+
+	@ExceptionHandler(DataDeliveryException.class)
+	public ResponseEntity<ApiResponse<Void>> dataDeliveryException(DataDeliveryException e) {
+		return error(e, e.getStatus(), ApiErrorCode.of(e.getMessage(), e.getStatus()));
+	}
+
+	@ExceptionHandler(UnAuthorizedException.class)
+	public ResponseEntity<ApiResponse<Void>> unAuthorizedException(UnAuthorizedException e) {
+		return error(e, HttpStatus.UNAUTHORIZED, ApiErrorCode.UNAUTHORIZED);
+	}
+
+	@ExceptionHandler(RedirectException.class)
+	public ResponseEntity<ApiResponse<Void>> redirectException(RedirectException e) {
+		return error(e, e.getStatus(), ApiErrorCode.of(e.getMessage(), e.getStatus()));
+	}
+
+	// JSON 형식 오류
+	@ExceptionHandler(HttpMessageNotReadableException.class)
+	public ResponseEntity<ApiResponse<Void>> notReadable(HttpMessageNotReadableException e) {
+		meterRegistry.counter("bank.exceptions", "type", e.getClass().getSimpleName()).increment();
+		return ResponseEntity.badRequest().body(ApiResponse.error(ApiErrorCode.INVALID_INPUT, Define.INVALID_INPUT));
+	}
+
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<ApiResponse<Void>> exception(Exception e) {
+		log.error("처리되지 않은 API 예외 : {}", e.getClass().getName(), e);
+		return error(e, HttpStatus.INTERNAL_SERVER_ERROR, ApiErrorCode.INTERNAL_ERROR);
+	}
+
+	private ResponseEntity<ApiResponse<Void>> error(Exception e, HttpStatus status, ApiErrorCode code) {
+		meterRegistry.counter("bank.exceptions", "type", e.getClass().getSimpleName()).increment();
+		String message = code == ApiErrorCode.INTERNAL_ERROR ? Define.FAILED_PROCESSING : e.getMessage();
+		return ResponseEntity.status(status).body(ApiResponse.error(code, message));
+	}
+}
@@ -11,7 +11,6 @@ import com.tenco.bank.utils.Define;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
 @Component // IoC 대상(싱글톤 패턴) 
 public class AuthInterceptor implements HandlerInterceptor {
@@ -23,8 +22,8 @@ public class AuthInterceptor implements HandlerInterceptor {
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
 
-		HttpSession session = request.getSession();
-		User principal = (User) session.getAttribute(Define.PRINCIPAL);
+		// PrincipalInterceptor 가 세션 또는 토큰에서 찾아 올려둔 principal
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
 		if (principal == null) {
 			throw new UnAuthorizedException("로그인 먼저 해주세요", HttpStatus.UNAUTHORIZED);
 		}
@@ -9,9 +9,18 @@ import com.tenco.bank.handler.exception.DataDeliveryException;
 import com.tenco.bank.handler.exception.RedirectException;
 import com.tenco.bank.handler.exception.UnAuthorizedException;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @ControllerAdvice // IoC 대상 (싱글톤 패턴) --> HTML 렌더링 예외에 많이 사용
+@RequiredArgsConstructor
 public class GlobalControllerAdvice {
 
+	// 예외 타입별 발생 건수 - bank.exceptions{type="DataDeliveryException"}
+	private final MeterRegistry meterRegistry;
+
 	/**
 	 * (개발시에 많이 활용)
 	 * 모든 예외 클래스를 알 수 없기 때문에 로깅으로 확인할 수 있도록 설정
@@ -27,10 +36,8 @@ public class GlobalControllerAdvice {
 
 	@ExceptionHandler(Exception.class)
 	public void exception(Exception e) {
-		System.out.println("--------------------");
-		System.out.println(e.getClass().getName());
-		System.out.println(e.getMessage());
-		System.out.println("--------------------");
+		count(e);
+		log.error("처리되지 않은 예외 : {}", e.getClass().getName(), e);
 	}
 
 	/**
@@ -44,6 +51,7 @@ public class GlobalControllerAdvice {
 	@ResponseBody
 	@ExceptionHandler(DataDeliveryException.class)
 	public String dataDeleveryException(DataDeliveryException e) {
+		count(e);
 		StringBuffer sb = new StringBuffer();
 		sb.append(" <script>");
 		sb.append(" alert('" + e.getMessage() + "');");
@@ -55,6 +63,7 @@ public class GlobalControllerAdvice {
 	@ResponseBody
 	@ExceptionHandler(UnAuthorizedException.class)
 	public String unAuthorizedException(UnAuthorizedException e) {
+		count(e);
 		StringBuffer sb = new StringBuffer();
 		sb.append(" <script>");
 		sb.append(" alert('" + e.getMessage() + "');");
@@ -71,9 +80,14 @@ public class GlobalControllerAdvice {
 	 */
 	@ExceptionHandler(RedirectException.class)
 	public ModelAndView redirectException(RedirectException e) {
+		count(e);
 		ModelAndView modelAndView = new ModelAndView("errorPage");
 		modelAndView.addObject("statusCode", e.getStatus().value());
 		modelAndView.addObject("message", e.getMessage());
 		return modelAndView; // 페이지 반환 + 데이터 내려줌
 	}
+
+	private void count(Exception e) {
+		meterRegistry.counter("bank.exceptions", "type", e.getClass().getSimpleName()).increment();
+	}
 }
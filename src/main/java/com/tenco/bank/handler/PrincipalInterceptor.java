@@ -0,0 +1,27 @@
+package com.tenco.bank.handler;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.tenco.bank.auth.PrincipalStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모든 화면 요청에서 principal 을 요청 속성에 올린다 (header.jsp 메뉴 표시용)
+ * 인증이 필요한 주소의 검사는 AuthInterceptor 가 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalInterceptor implements HandlerInterceptor {
+
+	private final PrincipalStore principalStore;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		principalStore.resolve(request);
+		return true;
+	}
+}
@@ -0,0 +1,36 @@
+package com.tenco.bank.handler;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.tenco.bank.datasource.ReadRouting;
+import com.tenco.bank.datasource.ReplicaStalenessGuard;
+import com.tenco.bank.repository.model.User;
+import com.tenco.bank.utils.Define;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * replica 사용시(bank.replica.enabled) 요청별 읽기 라우팅 상태 관리
+ * 최근에 쓰기를 한 유저의 요청은 primary 에서 읽는다.
+ * 쓰기 시각은 요청이 끝날 때가 아니라 쓰기가 커밋될 때 기록된다. (ReadRouting)
+ * PrincipalInterceptor 다음에 실행되어야 한다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+	private final ReplicaStalenessGuard replicaStalenessGuard;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		User principal = (User) request.getAttribute(Define.PRINCIPAL);
+		ReadRouting.begin(principal == null ? null : principal.getId(), replicaStalenessGuard);
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+		ReadRouting.end();
+	}
+}
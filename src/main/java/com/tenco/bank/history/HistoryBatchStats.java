@@ -0,0 +1,59 @@
+package com.tenco.bank.history;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 거래 내역 묶음 insert 통계 (배치 채움률, insert 시간)
+ */
+public class HistoryBatchStats {
+
+	private final int batchSize;
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder failedBatches = new LongAdder();
+	private final LongAdder insertNanos = new LongAdder();
+	private final AtomicLong maxInsertNanos = new AtomicLong();
+
+	HistoryBatchStats(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	void recordBatch(int size, long elapsedNanos) {
+		batches.increment();
+		rows.add(size);
+		insertNanos.add(elapsedNanos);
+		maxInsertNanos.accumulateAndGet(elapsedNanos, Math::max);
+	}
+
+	void recordFailure() {
+		failedBatches.increment();
+	}
+
+	public long getBatches() {
+		return batches.sum();
+	}
+
+	public long getRows() {
+		return rows.sum();
+	}
+
+	public long getFailedBatches() {
+		return failedBatches.sum();
+	}
+
+	// 평균 배치 크기 / 최대 배치 크기 (0.0 ~ 1.0)
+	public double getAverageFill() {
+		long count = batches.sum();
+		return count == 0 ? 0.0 : (double) rows.sum() / count / batchSize;
+	}
+
+	public double getAverageInsertMillis() {
+		long count = batches.sum();
+		return count == 0 ? 0.0 : insertNanos.sum() / 1_000_000.0 / count;
+	}
+
+	public double getMaxInsertMillis() {
+		return maxInsertNanos.get() / 1_000_000.0;
+	}
+}
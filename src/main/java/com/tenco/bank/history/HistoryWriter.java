@@ -0,0 +1,184 @@
+package com.tenco.bank.history;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.cache.AccountCache;
+import com.tenco.bank.repository.interfaces.AccountEntryRepository;
+import com.tenco.bank.repository.interfaces.AccountRepository;
+import com.tenco.bank.repository.interfaces.CounterRepository;
+import com.tenco.bank.repository.interfaces.HistoryRepository;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.repository.model.AccountEntry;
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.utils.Define;
+
+/**
+ * 거래 내역 등록 창구 - history_tb, 계좌별 거래 항목(account_entry_tb), 항목 수 카운터를 함께 저장
+ * batch-insert 가 꺼져 있으면 호출자 트랜잭션 안에서 바로 insert 한다.
+ * 켜져 있으면 호출자 트랜잭션의 거래 내역을 모아 두었다가 커밋 직전(beforeCommit)에 호출자 커넥션으로
+ * 다중 행 insert 한 번으로 저장한다. (롤백되면 저장하지 않으므로 잔액 변경과 거래 내역이 항상 함께 반영된다)
+ * 묶이는 것은 한 트랜잭션 안의 거래 내역뿐이다. 잔액 변경과 같은 커밋이어야 하므로 다른 트랜잭션의 거래 내역과는 합치지 않는다.
+ * (한 건만 쓰는 일반 이체, 입출금은 효과가 없고 일괄 이체처럼 여러 건을 쓰는 트랜잭션만 insert 횟수가 줄어든다)
+ * 거래 시각, 계좌 번호는 insert 전에 메모리에서 채워서 거래 내역과 거래 항목에 같은 값으로 저장한다.
+ */
+@Component
+public class HistoryWriter {
+
+	private final HistoryRepository historyRepository;
+	private final AccountEntryRepository accountEntryRepository;
+	private final CounterRepository counterRepository;
+	private final AccountRepository accountRepository;
+	private final AccountCache accountCache;
+	// 묶음 insert 사용시에만 존재
+	private final HistoryBatchStats batchStats;
+	private final int batchSize;
+
+	public HistoryWriter(HistoryRepository historyRepository, AccountEntryRepository accountEntryRepository, CounterRepository counterRepository,
+			AccountRepository accountRepository, AccountCache accountCache,
+			@Value("${bank.history.batch-insert.enabled:false}") boolean batchInsertEnabled,
+			@Value("${bank.history.batch-insert.batch-size:100}") int batchSize) {
+		this.historyRepository = historyRepository;
+		this.accountEntryRepository = accountEntryRepository;
+		this.counterRepository = counterRepository;
+		this.accountRepository = accountRepository;
+		this.accountCache = accountCache;
+		this.batchSize = batchSize;
+		this.batchStats = batchInsertEnabled ? new HistoryBatchStats(batchSize) : null;
+	}
+
+	/**
+	 * 거래 내역 등록
+	 * @param history
+	 */
+	public void write(History history) {
+		prepare(history);
+		// 트랜잭션 밖이면 모아 둘 커밋이 없으므로 바로 저장
+		if (batchStats == null || TransactionSynchronizationManager.isSynchronizationActive() == false) {
+			int rowResultCount = historyRepository.insert(history);
+			if (rowResultCount != 1) {
+				throw new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.INTERNAL_SERVER_ERROR);
+			}
+			List<AccountEntry> entries = AccountEntry.of(history);
+			accountEntryRepository.insertAll(entries);
+			increaseCounters(entries);
+			return;
+		}
+		List<History> buffer = transactionBuffer();
+		buffer.add(history);
+		// 한 트랜잭션에서 많이 쓰면 배치 크기마다 먼저 저장 (메모리 제한)
+		if (buffer.size() >= batchSize) {
+			flush(buffer);
+		}
+	}
+
+	// 현재 트랜잭션의 거래 내역 버퍼 (처음 사용할 때 커밋 직전 저장을 등록)
+	@SuppressWarnings("unchecked")
+	private List<History> transactionBuffer() {
+		List<History> buffer = (List<History>) TransactionSynchronizationManager.getResource(this);
+		if (buffer != null) {
+			return buffer;
+		}
+		List<History> newBuffer = new ArrayList<>();
+		TransactionSynchronizationManager.bindResource(this, newBuffer);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				flush(newBuffer);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(HistoryWriter.this);
+			}
+		});
+		return newBuffer;
+	}
+
+	// 호출자 커넥션으로 저장 - 실패하면 예외가 커밋을 막고 트랜잭션 전체가 롤백된다.
+	private void flush(List<History> buffer) {
+		if (buffer.isEmpty()) {
+			return;
+		}
+		long startedAt = System.nanoTime();
+		try {
+			writeAll(new ArrayList<>(buffer));
+		} catch (RuntimeException e) {
+			batchStats.recordFailure();
+			throw e;
+		}
+		batchStats.recordBatch(buffer.size(), System.nanoTime() - startedAt);
+		buffer.clear();
+	}
+
+	/**
+	 * 여러 건을 다중 행 insert 로 저장 (호출자 트랜잭션 안에서 실행)
+	 * @param historyList
+	 */
+	public void writeAll(List<History> historyList) {
+		if (historyList.isEmpty()) {
+			return;
+		}
+		for (History history : historyList) {
+			prepare(history);
+		}
+		historyRepository.insertBatch(historyList);
+		List<AccountEntry> entries = new ArrayList<>(historyList.size() * 2);
+		for (History history : historyList) {
+			entries.addAll(AccountEntry.of(history));
+		}
+		accountEntryRepository.insertAll(entries);
+		increaseCounters(entries);
+	}
+
+	// 거래 시각(초 단위 - 커서 토큰과 같은 정밀도), 비어 있는 계좌 번호 채우기
+	// 계좌 번호는 바뀌지 않으므로 캐시에서 읽는다. (없으면 잠금 없는 id 조회)
+	private void prepare(History history) {
+		if (history.getCreatedAt() == null) {
+			history.setCreatedAt(new Timestamp(System.currentTimeMillis() / 1000L * 1000L));
+		}
+		if (history.getWAccountId() != null && history.getWAccountNumber() == null) {
+			history.setWAccountNumber(accountNumberOf(history.getWAccountId()));
+		}
+		if (history.getDAccountId() != null && history.getDAccountNumber() == null) {
+			history.setDAccountNumber(accountNumberOf(history.getDAccountId()));
+		}
+	}
+
+	private String accountNumberOf(Integer accountId) {
+		Account account = accountCache.getById(accountId, accountRepository::findByAccountId);
+		if (account == null) {
+			throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
+		}
+		return account.getNumber();
+	}
+
+	// 계좌별로 모아서 카운터 증가 (계좌당 update 1회)
+	private void increaseCounters(List<AccountEntry> entries) {
+		Map<Integer, int[]> counts = new HashMap<>();
+		for (AccountEntry entry : entries) {
+			int[] count = counts.computeIfAbsent(entry.getAccountId(), key -> new int[2]);
+			if (AccountEntry.DEPOSIT.equals(entry.getDirection())) {
+				count[0]++;
+			} else {
+				count[1]++;
+			}
+		}
+		counts.forEach((accountId, count) -> counterRepository.increaseAccountStat(accountId, count[0], count[1]));
+	}
+
+	// 묶음 insert 통계 (사용하지 않으면 null)
+	public HistoryBatchStats getBatchStats() {
+		return batchStats;
+	}
+}
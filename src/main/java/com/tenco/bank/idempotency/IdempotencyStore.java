@@ -0,0 +1,237 @@
+package com.tenco.bank.idempotency;
+
+import java.sql.Timestamp;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.interfaces.IdempotencyKeyRepository;
+import com.tenco.bank.repository.model.IdempotencyKey;
+import com.tenco.bank.utils.Define;
+import com.tenco.bank.utils.LruCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등성 키 저장소 (출금, 입금, 이체 재요청 중복 방지)
+ * 1. 완료된 키는 메모리 LRU 에서 먼저 찾는다. (DB 조회 없이 원래 결과 반환)
+ * 2. 없으면 idempotency_key_tb 에 키를 먼저 insert 해서 예약한다.
+ *    같은 키로 동시에 들어온 요청은 유니크 인덱스에서 먼저 들어온 트랜잭션이 끝날 때까지 대기한 뒤 중복 처리된다.
+ * 3. 잔액 변경 후 결과 잔액을 같은 트랜잭션에서 기록하고, 커밋되면 LRU 에 넣는다.
+ * 잔액 변경이 실패하면 키 행도 함께 롤백되므로 같은 키로 다시 시도할 수 있다.
+ * LEDGER 모드는 잔액 변경이 원장 저장 배치에서 커밋되므로 키 행도 그 배치에서 함께 저장한다. (prepare)
+ * 처리 중인 키는 이 서버의 메모리에서 막고, 다른 곳에서 먼저 저장된 키는 유니크 인덱스로 걸러진다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore implements MeterBinder {
+
+	public static final int MAX_KEY_LENGTH = 64;
+
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+	private final long ttlMillis;
+	// "유저 id:키" --> 완료된 키
+	private final LruCache<String, IdempotencyKey> completed;
+	private final LongAdder replays = new LongAdder();
+	// LEDGER 모드 - 원장 엔진에서 처리 중인 "유저 id:키"
+	private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+	public IdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository, @Value("${bank.idempotency.ttl-hours:24}") long ttlHours,
+			@Value("${bank.idempotency.cache-size:10000}") int cacheSize) {
+		this.idempotencyKeyRepository = idempotencyKeyRepository;
+		this.ttlMillis = ttlHours * 60 * 60 * 1000;
+		this.completed = new LruCache<>(cacheSize);
+	}
+
+	/**
+	 * 요청 내용 (같은 키로 다른 요청을 보내면 거부)
+	 * @param type W(출금), D(입금), T(이체)
+	 */
+	public static String fingerprint(String type, String wAccountNumber, String dAccountNumber, Long amount) {
+		return type + "|" + (wAccountNumber == null ? "" : wAccountNumber) + "|" + (dAccountNumber == null ? "" : dAccountNumber) + "|" + amount;
+	}
+
+	/**
+	 * 키 예약 (잔액 변경과 같은 트랜잭션에서 호출)
+	 * @param userId
+	 * @param key 비어 있으면 중복 확인을 하지 않는다.
+	 * @param fingerprint
+	 * @return 키가 없으면 null, 이미 처리된 키면 balance 가 있는 행(원래 결과), 새 키면 balance 가 null 인 행
+	 */
+	public IdempotencyKey begin(Integer userId, String key, String fingerprint) {
+		if (key == null || key.isBlank()) {
+			return null;
+		}
+		if (key.length() > MAX_KEY_LENGTH) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		String cacheKey = userId + ":" + key;
+		IdempotencyKey cached = findCompleted(cacheKey);
+		if (cached != null) {
+			return replay(cached, fingerprint);
+		}
+
+		IdempotencyKey reserved = IdempotencyKey.builder().userId(userId).idemKey(key).fingerprint(fingerprint).build();
+		try {
+			idempotencyKeyRepository.insert(reserved);
+		} catch (DuplicateKeyException e) {
+			IdempotencyKey stored = idempotencyKeyRepository.findByUserIdAndKey(userId, key);
+			// 먼저 들어온 요청이 아직 처리 중
+			if (stored == null || stored.getBalance() == null) {
+				throw new DataDeliveryException(Define.DUPLICATE_REQUEST_IN_PROGRESS, HttpStatus.CONFLICT);
+			}
+			completed.put(cacheKey, stored);
+			return replay(stored, fingerprint);
+		}
+		reserved.setCreatedAt(new Timestamp(System.currentTimeMillis()));
+		return reserved;
+	}
+
+	/**
+	 * 처리 결과 기록 - 커밋되면 LRU 에도 넣는다.
+	 * @param reserved begin 이 반환한 행 (null 이면 아무것도 하지 않음)
+	 * @param balance 처리 후 잔액
+	 */
+	public void complete(IdempotencyKey reserved, Long balance) {
+		if (reserved == null) {
+			return;
+		}
+		reserved.setBalance(balance);
+		idempotencyKeyRepository.updateBalance(reserved.getId(), balance);
+		String cacheKey = reserved.getUserId() + ":" + reserved.getIdemKey();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					completed.put(cacheKey, reserved);
+				}
+			});
+		} else {
+			completed.put(cacheKey, reserved);
+		}
+	}
+
+	/**
+	 * 키 확인 (LEDGER 모드 - 키 행은 원장 엔진에 넘겨 거래 내역과 같은 배치에서 저장)
+	 * 새 키는 persisted 또는 release 를 반드시 호출해야 한다.
+	 * @param userId
+	 * @param key 비어 있으면 중복 확인을 하지 않는다.
+	 * @param fingerprint
+	 * @return 키가 없으면 null, 이미 처리된 키면 balance 가 있는 행(원래 결과), 새 키면 저장 전 행 (id, balance 없음)
+	 */
+	public IdempotencyKey prepare(Integer userId, String key, String fingerprint) {
+		if (key == null || key.isBlank()) {
+			return null;
+		}
+		if (key.length() > MAX_KEY_LENGTH) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		String cacheKey = userId + ":" + key;
+		IdempotencyKey cached = findCompleted(cacheKey);
+		if (cached != null) {
+			return replay(cached, fingerprint);
+		}
+		IdempotencyKey stored = idempotencyKeyRepository.findByUserIdAndKey(userId, key);
+		if (stored != null) {
+			completed.put(cacheKey, stored);
+			return replay(stored, fingerprint);
+		}
+		if (inFlight.add(cacheKey) == false) {
+			throw new DataDeliveryException(Define.DUPLICATE_REQUEST_IN_PROGRESS, HttpStatus.CONFLICT);
+		}
+		return IdempotencyKey.builder().userId(userId).idemKey(key).fingerprint(fingerprint).createdAt(new Timestamp(System.currentTimeMillis())).build();
+	}
+
+	/**
+	 * 원장 저장 배치에 키가 저장된 후 (LEDGER 모드)
+	 * @param prepared prepare 가 반환한 새 키 (null 이면 아무것도 하지 않음)
+	 */
+	public void persisted(IdempotencyKey prepared) {
+		if (prepared == null) {
+			return;
+		}
+		String cacheKey = prepared.getUserId() + ":" + prepared.getIdemKey();
+		completed.put(cacheKey, prepared);
+		inFlight.remove(cacheKey);
+	}
+
+	/**
+	 * 처리 실패 (LEDGER 모드) - 같은 키로 다시 시도할 수 있다.
+	 * @param prepared prepare 가 반환한 새 키 (null 이면 아무것도 하지 않음)
+	 */
+	public void release(IdempotencyKey prepared) {
+		if (prepared == null) {
+			return;
+		}
+		inFlight.remove(prepared.getUserId() + ":" + prepared.getIdemKey());
+	}
+
+	/**
+	 * 원장 저장 배치에서 키가 중복된 경우 (다른 곳에서 먼저 저장) 저장된 결과 반환 (LEDGER 모드)
+	 * @param prepared prepare 가 반환한 새 키
+	 * @return balance 가 있는 행(원래 결과)
+	 */
+	public IdempotencyKey replayStored(IdempotencyKey prepared) {
+		release(prepared);
+		IdempotencyKey stored = idempotencyKeyRepository.findByUserIdAndKey(prepared.getUserId(), prepared.getIdemKey());
+		if (stored == null || stored.getBalance() == null) {
+			throw new DataDeliveryException(Define.DUPLICATE_REQUEST_IN_PROGRESS, HttpStatus.CONFLICT);
+		}
+		completed.put(prepared.getUserId() + ":" + prepared.getIdemKey(), stored);
+		return replay(stored, prepared.getFingerprint());
+	}
+
+	/**
+	 * 보관 기간이 지난 키 삭제
+	 */
+	@Scheduled(cron = "${bank.idempotency.cleanup-cron:0 15 * * * *}")
+	@Transactional
+	public void purgeExpired() {
+		int deleted = idempotencyKeyRepository.deleteCreatedBefore(new Timestamp(System.currentTimeMillis() - ttlMillis));
+		log.info("보관 기간 지난 멱등성 키 삭제 {}건", deleted);
+	}
+
+	// 메모리에 있는 완료된 키 (보관 기간이 지났으면 제거 후 null)
+	private IdempotencyKey findCompleted(String cacheKey) {
+		IdempotencyKey cached = completed.get(cacheKey);
+		if (cached != null && isExpired(cached)) {
+			completed.remove(cacheKey);
+			return null;
+		}
+		return cached;
+	}
+
+	private IdempotencyKey replay(IdempotencyKey stored, String fingerprint) {
+		if (stored.getFingerprint().equals(fingerprint) == false) {
+			throw new DataDeliveryException(Define.IDEMPOTENCY_KEY_REUSED, HttpStatus.UNPROCESSABLE_ENTITY);
+		}
+		replays.increment();
+		return stored;
+	}
+
+	private boolean isExpired(IdempotencyKey idempotencyKey) {
+		return idempotencyKey.getCreatedAt().getTime() < System.currentTimeMillis() - ttlMillis;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("bank.idempotency.cache.size", completed, LruCache::size).register(registry);
+		FunctionCounter.builder("bank.idempotency.cache.requests", completed, LruCache::getHits).tag("result", "hit").register(registry);
+		FunctionCounter.builder("bank.idempotency.cache.requests", completed, LruCache::getMisses).tag("result", "miss").register(registry);
+		FunctionCounter.builder("bank.idempotency.replays", replays, LongAdder::sum).register(registry);
+	}
+}
@@ -0,0 +1,79 @@
+package com.tenco.bank.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * FileChannel 에서 한 줄씩 읽는 리더 (UTF-8, \n 또는 \r\n)
+ * 고정 크기 버퍼만 사용하므로 파일 크기와 관계없이 메모리 사용량이 일정하고
+ * 줄 끝의 바이트 위치(position)를 정확히 알 수 있어 체크포인트에서 바로 이어 읽을 수 있다.
+ */
+class LineChannelReader {
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	// 버퍼 경계에 걸친 줄 조각
+	private byte[] pending = new byte[256];
+	private int pendingLength;
+	private long position;
+	private boolean eof;
+
+	LineChannelReader(FileChannel channel, long startPosition, int bufferSize) throws IOException {
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+		this.buffer.flip();
+		this.position = startPosition;
+		channel.position(startPosition);
+	}
+
+	/**
+	 * @return 다음 줄 (줄바꿈 제외), 파일 끝이면 null
+	 */
+	String readLine() throws IOException {
+		pendingLength = 0;
+		while (true) {
+			while (buffer.hasRemaining()) {
+				byte b = buffer.get();
+				position++;
+				if (b == '\n') {
+					return decode();
+				}
+				append(b);
+			}
+			if (eof || fill() == false) {
+				eof = true;
+				return pendingLength == 0 ? null : decode();
+			}
+		}
+	}
+
+	// 마지막으로 읽은 줄 다음 바이트 위치
+	long position() {
+		return position;
+	}
+
+	private boolean fill() throws IOException {
+		buffer.clear();
+		int read = channel.read(buffer);
+		buffer.flip();
+		return read > 0;
+	}
+
+	private void append(byte b) {
+		if (pendingLength == pending.length) {
+			pending = Arrays.copyOf(pending, pending.length * 2);
+		}
+		pending[pendingLength++] = b;
+	}
+
+	private String decode() {
+		int length = pendingLength;
+		if (length > 0 && pending[length - 1] == '\r') {
+			length--;
+		}
+		return new String(pending, 0, length, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,77 @@
+package com.tenco.bank.ingest;
+
+import org.springframework.http.HttpStatus;
+
+import com.tenco.bank.dto.TransferDTO;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.utils.Define;
+
+/**
+ * 대량 이체 파일 형식
+ * CSV   : 출금계좌,입금계좌,비밀번호,금액 (첫 줄이 헤더면 건너뜀)
+ * FIXED : 출금계좌(20) 입금계좌(20) 비밀번호(10) 금액(15) - 공백 채움
+ */
+public enum PaymentFileFormat {
+	CSV {
+		@Override
+		TransferDTO parse(String line) {
+			String[] columns = line.split(",", -1);
+			if (columns.length != 4) {
+				throw invalid();
+			}
+			return transfer(columns[0], columns[1], columns[2], columns[3]);
+		}
+
+		@Override
+		boolean isHeader(String line) {
+			return line.toLowerCase().contains("amount") || line.contains("금액");
+		}
+	},
+	FIXED {
+		@Override
+		TransferDTO parse(String line) {
+			if (line.length() < 65) {
+				throw invalid();
+			}
+			return transfer(line.substring(0, 20), line.substring(20, 40), line.substring(40, 50), line.substring(50, 65));
+		}
+
+		@Override
+		boolean isHeader(String line) {
+			return false;
+		}
+	};
+
+	/**
+	 * 한 줄을 이체 요청으로 변환 (형식 오류면 DataDeliveryException - 잘못된 입력)
+	 * 금액, 계좌번호, 비밀번호 검사는 AccountService.transferBatch 에서 transferProc 와 같은 규칙으로 한다.
+	 */
+	abstract TransferDTO parse(String line);
+
+	abstract boolean isHeader(String line);
+
+	private static TransferDTO transfer(String wAccountNumber, String dAccountNumber, String password, String amount) {
+		TransferDTO dto = new TransferDTO();
+		dto.setWAccountNumber(emptyToNull(wAccountNumber));
+		dto.setDAccountNumber(emptyToNull(dAccountNumber));
+		dto.setPassword(emptyToNull(password));
+		String trimmedAmount = amount.trim();
+		if (trimmedAmount.isEmpty() == false) {
+			try {
+				dto.setAmount(Long.parseLong(trimmedAmount));
+			} catch (NumberFormatException e) {
+				throw invalid();
+			}
+		}
+		return dto;
+	}
+
+	private static String emptyToNull(String value) {
+		String trimmed = value.trim();
+		return trimmed.isEmpty() ? null : trimmed;
+	}
+
+	private static DataDeliveryException invalid() {
+		return new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+	}
+}
@@ -0,0 +1,269 @@
+package com.tenco.bank.ingest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tenco.bank.dto.BatchTransferResult;
+import com.tenco.bank.dto.TransferDTO;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.interfaces.IngestJobRepository;
+import com.tenco.bank.repository.model.IngestJob;
+import com.tenco.bank.service.AccountService;
+import com.tenco.bank.utils.Define;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대량 이체 파일 처리
+ * 1. 입력 파일을 FileChannel 로 한 줄씩 읽어 chunk-size 건씩 모은다. (파일 전체를 메모리에 올리지 않음)
+ * 2. 청크마다 하나의 트랜잭션에서 AccountService.transferBatch + 체크포인트(ingest_job_tb) 갱신
+ * 3. 항목별 결과는 커밋 전에 결과 파일에 기록하고, 이어서 처리할 때 체크포인트 위치로 잘라낸다.
+ * 체크포인트가 이체와 같은 트랜잭션이므로 중단 후 이어서 처리해도 같은 줄이 두 번 이체되지 않는다.
+ * 여러 서버에서 같은 작업을 처리하지 않도록 ingest_job_tb 의 owner, lease_until 로 소유권을 잡는다.
+ * 1. 시작, 이어서 처리 : RUNNING 이 아니거나 소유권이 만료된 작업만 가져온다. (claim)
+ * 2. 청크 : 소유권과 직전 체크포인트가 그대로일 때만 체크포인트를 갱신하고 (소유권 연장), 아니면 청크를 롤백하고 멈춘다.
+ * LEDGER 모드는 이체가 원장 엔진에서 따로 저장되어 체크포인트와 함께 커밋할 수 없으므로 처리하지 않는다.
+ */
+@Slf4j
+@Service
+public class PaymentFileIngestService {
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private final AccountService accountService;
+	private final IngestJobRepository ingestJobRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Path directory;
+	private final int chunkSize;
+	private final long leaseMillis;
+	// 이 서버(인스턴스) 식별자 - 재시작하면 바뀌므로 재시작 전 작업은 소유권이 만료된 후에 이어서 처리할 수 있다.
+	private final String owner;
+	// 작업은 한 번에 하나씩 (같은 계좌 잠금 경쟁 방지)
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "payment-file-ingest");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public PaymentFileIngestService(AccountService accountService, IngestJobRepository ingestJobRepository, PlatformTransactionManager transactionManager,
+			@Value("${bank.ingest.directory:./ingest}") String directory, @Value("${bank.ingest.chunk-size:500}") int chunkSize,
+			@Value("${bank.ingest.lease-seconds:300}") long leaseSeconds) {
+		this.accountService = accountService;
+		this.ingestJobRepository = ingestJobRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.directory = Path.of(directory).toAbsolutePath().normalize();
+		this.chunkSize = chunkSize;
+		this.leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+		// pid@host/임의값 (owner 컬럼 길이 64)
+		String name = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+		this.owner = name.length() > 64 ? name.substring(name.length() - 64) : name;
+	}
+
+	/**
+	 * 작업 등록 후 백그라운드 처리 시작
+	 * @param fileName bank.ingest.directory 안의 파일 이름
+	 */
+	public IngestJob start(Integer principalId, String fileName, PaymentFileFormat format) {
+		checkMode();
+		Path file = resolve(fileName);
+		if (Files.isRegularFile(file) == false) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		// 등록과 동시에 이 서버가 소유
+		IngestJob job = IngestJob.builder().userId(principalId).fileName(fileName).format(format.name()).status(IngestJob.RUNNING).owner(owner)
+				.leaseUntil(leaseUntil()).build();
+		ingestJobRepository.insert(job);
+		executor.submit(() -> run(job.getId()));
+		return readJob(job.getId(), principalId);
+	}
+
+	/**
+	 * 실패(중단)한 작업을 마지막 체크포인트부터 이어서 처리
+	 * 완료된 작업, 다른 서버가 소유권을 가지고 처리 중인 작업은 그대로 반환한다.
+	 */
+	public IngestJob resume(Integer jobId, Integer principalId) {
+		checkMode();
+		IngestJob job = readJob(jobId, principalId);
+		if (IngestJob.DONE.equals(job.getStatus())) {
+			return job;
+		}
+		if (ingestJobRepository.claim(jobId, owner, leaseUntil(), new Timestamp(System.currentTimeMillis())) == 0) {
+			return job;
+		}
+		executor.submit(() -> run(jobId));
+		return readJob(jobId, principalId);
+	}
+
+	public IngestJob readJob(Integer jobId, Integer principalId) {
+		IngestJob job = ingestJobRepository.findById(jobId);
+		if (job == null || job.getUserId().equals(principalId) == false) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		return job;
+	}
+
+	// 결과 파일 : job-<작업 id>.result.csv (줄번호,코드,메시지,출금 후 잔액) - 같은 입력 파일을 여러 번 처리해도 작업마다 따로 남는다.
+	public Path resultFile(IngestJob job) {
+		return resolve("job-" + job.getId() + ".result.csv");
+	}
+
+	private void checkMode() {
+		if (accountService.isLedgerMode()) {
+			throw new DataDeliveryException(Define.INGEST_NOT_SUPPORTED_IN_LEDGER_MODE, HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	private Timestamp leaseUntil() {
+		return new Timestamp(System.currentTimeMillis() + leaseMillis);
+	}
+
+	void run(Integer jobId) {
+		IngestJob job = ingestJobRepository.findById(jobId);
+		if (owner.equals(job.getOwner()) == false) {
+			return;
+		}
+		PaymentFileFormat format = PaymentFileFormat.valueOf(job.getFormat());
+		try (FileChannel input = FileChannel.open(resolve(job.getFileName()), StandardOpenOption.READ);
+				FileChannel output = FileChannel.open(resultFile(job), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			// 커밋되지 않은 청크의 결과 제거
+			output.truncate(job.getResultPosition());
+			output.position(job.getResultPosition());
+			LineChannelReader reader = new LineChannelReader(input, job.getPosition(), READ_BUFFER_SIZE);
+			long lineNo = job.getLineNo();
+			boolean done = false;
+			while (done == false) {
+				List<TransferDTO> items = new ArrayList<>(chunkSize);
+				List<Long> itemLines = new ArrayList<>(chunkSize);
+				List<ResultLine> resultLines = new ArrayList<>();
+				while (items.size() < chunkSize) {
+					String line = reader.readLine();
+					if (line == null) {
+						done = true;
+						break;
+					}
+					lineNo++;
+					if (line.isBlank() || line.startsWith("#") || (lineNo == 1 && format.isHeader(line))) {
+						continue;
+					}
+					try {
+						items.add(format.parse(line));
+						itemLines.add(lineNo);
+					} catch (DataDeliveryException e) {
+						resultLines.add(new ResultLine(lineNo, BatchTransferResult.failure(-1, e.getMessage())));
+					}
+				}
+				if (items.isEmpty() && resultLines.isEmpty()) {
+					continue;
+				}
+				long chunkLineNo = lineNo;
+				transactionTemplate.executeWithoutResult(status -> {
+					List<BatchTransferResult> results = items.isEmpty() ? List.of() : accountService.transferBatch(items, job.getUserId());
+					for (int i = 0; i < results.size(); i++) {
+						resultLines.add(new ResultLine(itemLines.get(i), results.get(i)));
+					}
+					resultLines.sort(Comparator.comparingLong(ResultLine::lineNo));
+					ByteBuffer bytes = encode(resultLines);
+					Long expectedPosition = job.getPosition();
+					job.setPosition(reader.position());
+					job.setLineNo(chunkLineNo);
+					job.setResultPosition(position(output) + bytes.remaining());
+					job.setSucceeded(job.getSucceeded() + (int) resultLines.stream().filter(r -> r.result().isSuccess()).count());
+					job.setFailed(job.getFailed() + (int) resultLines.stream().filter(r -> r.result().isSuccess() == false).count());
+					job.setLeaseUntil(leaseUntil());
+					if (ingestJobRepository.updateProgress(job, expectedPosition) == 0) {
+						throw new LeaseLostException();
+					}
+					// 체크포인트 행 잠금을 잡은 상태에서 기록하므로 결과 파일은 소유한 서버만 쓴다.
+					writeResults(output, bytes);
+				});
+			}
+			if (ingestJobRepository.updateStatus(jobId, owner, IngestJob.DONE, null) == 0) {
+				log.warn("대량 이체 완료 처리 실패 (소유권 만료) jobId={}", jobId);
+				return;
+			}
+			log.info("대량 이체 완료 jobId={} 성공={} 실패={}", jobId, job.getSucceeded(), job.getFailed());
+		} catch (LeaseLostException e) {
+			// 청크는 롤백되었고, 소유권을 가져간 서버가 마지막 체크포인트부터 처리한다.
+			log.warn("대량 이체 중단 (다른 서버가 소유권을 가져감) jobId={} line={}", jobId, job.getLineNo());
+		} catch (Exception e) {
+			log.error("대량 이체 중단 jobId={} line={}", jobId, job.getLineNo(), e);
+			String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+			ingestJobRepository.updateStatus(jobId, owner, IngestJob.FAILED, message.length() > 255 ? message.substring(0, 255) : message);
+		}
+	}
+
+	private ByteBuffer encode(List<ResultLine> resultLines) {
+		StringBuilder sb = new StringBuilder();
+		for (ResultLine resultLine : resultLines) {
+			BatchTransferResult result = resultLine.result();
+			sb.append(resultLine.lineNo()).append(',')
+					.append(result.getCode()).append(',')
+					.append(result.getMessage() == null ? "" : result.getMessage()).append(',')
+					.append(result.getBalance() == null ? "" : result.getBalance()).append('\n');
+		}
+		return StandardCharsets.UTF_8.encode(sb.toString());
+	}
+
+	// 커밋 전에 디스크까지 기록 (커밋 후 중단되어도 결과가 남도록)
+	private void writeResults(FileChannel output, ByteBuffer bytes) {
+		try {
+			while (bytes.hasRemaining()) {
+				output.write(bytes);
+			}
+			output.force(false);
+		} catch (IOException e) {
+			throw new IllegalStateException("결과 파일 기록 실패", e);
+		}
+	}
+
+	private long position(FileChannel channel) {
+		try {
+			return channel.position();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 디렉토리 밖 경로(../) 차단
+	private Path resolve(String fileName) {
+		Path file = directory.resolve(fileName).normalize();
+		if (file.startsWith(directory) == false) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		return file;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private record ResultLine(long lineNo, BatchTransferResult result) {
+	}
+
+	// 체크포인트 갱신 실패 (소유권, 체크포인트가 바뀜) - 청크 트랜잭션 롤백용
+	private static class LeaseLostException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+	}
+}
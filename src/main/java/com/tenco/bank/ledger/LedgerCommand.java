@@ -0,0 +1,49 @@
+package com.tenco.bank.ledger;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.tenco.bank.repository.model.IdempotencyKey;
+
+/**
+ * 샤드 큐에 전달되는 명령
+ */
+class LedgerCommand {
+
+	enum Type {
+		WITHDRAW, DEPOSIT,
+		// 이체 1단계 - 출금 계좌 샤드에서 차감 (메모리만 변경, 저장은 2단계에서 한 번에)
+		TRANSFER_OUT,
+		// 이체 2단계 - 입금 계좌 샤드에서 가산 후 출금/입금 양쪽을 하나의 저장 이벤트로 전달
+		TRANSFER_IN,
+		// 저장하지 못한 변경을 메모리 잔액에서 되돌림 (dAccountId 계좌에 amount 가산, 음수 가능)
+		COMPENSATE
+	}
+
+	final Type type;
+	final Integer wAccountId;
+	final Integer dAccountId;
+	final Long amount;
+	// 저장(커밋)까지 끝나야 완료된다.
+	final CompletableFuture<LedgerResult> future;
+	// 거래 내역과 함께 저장할 요청 키 (없으면 null)
+	final IdempotencyKey idempotencyKey;
+	// TRANSFER_IN 에서 사용 - 출금 후 잔액
+	Long wBalance;
+
+	LedgerCommand(Type type, Integer wAccountId, Integer dAccountId, Long amount) {
+		this(type, wAccountId, dAccountId, amount, null);
+	}
+
+	LedgerCommand(Type type, Integer wAccountId, Integer dAccountId, Long amount, IdempotencyKey idempotencyKey) {
+		this(type, wAccountId, dAccountId, amount, idempotencyKey, new CompletableFuture<>());
+	}
+
+	LedgerCommand(Type type, Integer wAccountId, Integer dAccountId, Long amount, IdempotencyKey idempotencyKey, CompletableFuture<LedgerResult> future) {
+		this.type = type;
+		this.wAccountId = wAccountId;
+		this.dAccountId = dAccountId;
+		this.amount = amount;
+		this.idempotencyKey = idempotencyKey;
+		this.future = future;
+	}
+}
@@ -0,0 +1,156 @@
+package com.tenco.bank.ledger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpStatus;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.repository.model.IdempotencyKey;
+import com.tenco.bank.utils.Define;
+
+/**
+ * 메모리 원장 엔진
+ * 계좌 id 로 샤드를 나누고, 샤드마다 하나의 쓰기 스레드가 lock-free 큐의 명령을 순서대로 처리한다.
+ * 결과는 LedgerPersister 가 account_tb, history_tb 에 비동기 배치로 저장하고, 저장이 끝나면 future 가 완료된다.
+ * 요청 키를 넘기면 처리 후 잔액과 함께 같은 배치(트랜잭션)에서 idempotency_key_tb 에 저장된다.
+ */
+public class LedgerEngine {
+
+	private final LedgerShard[] shards;
+	private final LedgerPersister persister;
+	// 샤드 큐에 들어가서 아직 처리되지 않은 명령 수 (샤드 간 이체 전달 포함)
+	private final AtomicLong inFlight = new AtomicLong();
+	private final Object idleSignal = new Object();
+	private volatile boolean accepting = true;
+
+	public LedgerEngine(LedgerStore store, int shardCount, int batchSize) {
+		this.persister = new LedgerPersister(store, batchSize, this::revert);
+		this.shards = new LedgerShard[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards[i] = new LedgerShard(i, this, store, persister);
+		}
+	}
+
+	public void start() {
+		persister.start();
+		for (LedgerShard shard : shards) {
+			shard.start();
+		}
+	}
+
+	/**
+	 * 종료
+	 * 1. 모든 샤드의 새 요청 접수를 먼저 막는다.
+	 * 2. 샤드 간 이체 전달(TRANSFER_IN)까지 모든 명령이 처리될 때까지 기다린다.
+	 * 3. 남은 저장 이벤트를 모두 저장하고 저장 스레드를 멈춘다.
+	 * 4. 저장 중 dead-letter 된 이벤트의 되돌리기(COMPENSATE)가 샤드에 반영될 때까지 기다린 후 샤드를 멈춘다.
+	 */
+	public void stop() throws InterruptedException {
+		accepting = false;
+		awaitIdle();
+		persister.stop();
+		awaitIdle();
+		for (LedgerShard shard : shards) {
+			shard.stop();
+		}
+	}
+
+	public CompletableFuture<LedgerResult> withdraw(Integer accountId, Long amount) {
+		return withdraw(accountId, amount, null);
+	}
+
+	public CompletableFuture<LedgerResult> withdraw(Integer accountId, Long amount, IdempotencyKey idempotencyKey) {
+		return submit(accountId, new LedgerCommand(LedgerCommand.Type.WITHDRAW, accountId, null, amount, idempotencyKey));
+	}
+
+	public CompletableFuture<LedgerResult> deposit(Integer accountId, Long amount) {
+		return deposit(accountId, amount, null);
+	}
+
+	public CompletableFuture<LedgerResult> deposit(Integer accountId, Long amount, IdempotencyKey idempotencyKey) {
+		return submit(accountId, new LedgerCommand(LedgerCommand.Type.DEPOSIT, null, accountId, amount, idempotencyKey));
+	}
+
+	public CompletableFuture<LedgerResult> transfer(Integer wAccountId, Integer dAccountId, Long amount) {
+		return transfer(wAccountId, dAccountId, amount, null);
+	}
+
+	public CompletableFuture<LedgerResult> transfer(Integer wAccountId, Integer dAccountId, Long amount, IdempotencyKey idempotencyKey) {
+		return submit(wAccountId, new LedgerCommand(LedgerCommand.Type.TRANSFER_OUT, wAccountId, dAccountId, amount, idempotencyKey));
+	}
+
+	// 접수된 명령이 모두 처리되고 저장까지 끝날 때까지 대기 (테스트, 종료 처리용)
+	public void flush() throws InterruptedException {
+		awaitIdle();
+		persister.awaitPersisted();
+	}
+
+	// 저장하지 못하고 되돌린 거래 수
+	public long deadLetteredCount() {
+		return persister.deadLettered();
+	}
+
+	public int shardCount() {
+		return shards.length;
+	}
+
+	// 샤드에서 아직 처리되지 않은 명령 수 (테스트용)
+	long inFlight() {
+		return inFlight.get();
+	}
+
+	LedgerShard shardOf(Integer accountId) {
+		return shards[Math.floorMod(accountId, shards.length)];
+	}
+
+	// 샤드 사이의 명령 전달 (종료 중에도 허용 - 이미 접수된 이체는 끝까지 처리)
+	void dispatch(Integer accountId, LedgerCommand command) {
+		inFlight.incrementAndGet();
+		shardOf(accountId).submit(command);
+	}
+
+	// 샤드가 명령 하나를 처리한 후 호출
+	void done() {
+		if (inFlight.decrementAndGet() == 0) {
+			synchronized (idleSignal) {
+				idleSignal.notifyAll();
+			}
+		}
+	}
+
+	// 메모리 잔액만 되돌림 (저장 전 실패)
+	void compensate(Integer accountId, Long delta) {
+		dispatch(accountId, new LedgerCommand(LedgerCommand.Type.COMPENSATE, null, accountId, delta));
+	}
+
+	// 저장하지 못한 거래 내역의 양쪽 증감을 되돌림
+	private void revert(History history) {
+		if (history.getWAccountId() != null) {
+			compensate(history.getWAccountId(), history.getAmount());
+		}
+		if (history.getDAccountId() != null) {
+			compensate(history.getDAccountId(), -history.getAmount());
+		}
+	}
+
+	private void awaitIdle() throws InterruptedException {
+		synchronized (idleSignal) {
+			while (inFlight.get() > 0) {
+				idleSignal.wait();
+			}
+		}
+	}
+
+	private CompletableFuture<LedgerResult> submit(Integer accountId, LedgerCommand command) {
+		// 카운트를 먼저 올린 뒤 접수 여부 확인 - stop() 이 접수 중단 후 카운트가 0 이 되기를 기다리므로 누락되지 않는다.
+		inFlight.incrementAndGet();
+		if (accepting == false) {
+			done();
+			return CompletableFuture.failedFuture(new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.SERVICE_UNAVAILABLE));
+		}
+		shardOf(accountId).submit(command);
+		return command.future;
+	}
+}
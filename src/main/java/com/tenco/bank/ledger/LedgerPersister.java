@@ -0,0 +1,183 @@
+package com.tenco.bank.ledger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.repository.model.IdempotencyKey;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 샤드가 만든 저장 이벤트(거래 내역 1건 + 계좌별 잔액 증감 + 요청 키)를 모아서 비동기로 저장
+ * 잔액은 증감(delta)으로 저장하므로 샤드 간 이벤트 순서와 관계없이 최종 잔액이 같고,
+ * 이벤트 하나(이체의 출금/입금 양쪽)는 항상 같은 트랜잭션에 저장된다.
+ * 저장이 끝나면(커밋) 이벤트의 future 를 완료한다.
+ * 배치 저장이 MAX_BATCH_ATTEMPTS 번 실패하면 이벤트를 한 건씩 저장하고,
+ * 그래도 실패한 이벤트는 dead-letter 로 기록(로그, 카운터)한 뒤 메모리 잔액을 되돌리고 future 를 실패 처리한다.
+ */
+@Slf4j
+class LedgerPersister implements Runnable {
+
+	private static final long IDLE_PARK_NANOS = 1_000_000L;
+	private static final long RETRY_PARK_NANOS = 100_000_000L;
+	private static final int MAX_BATCH_ATTEMPTS = 3;
+
+	private record LedgerEvent(History history, LedgerResult result, IdempotencyKey idempotencyKey, CompletableFuture<LedgerResult> future) {
+	}
+
+	private final LedgerStore store;
+	private final int batchSize;
+	// 저장하지 못한 거래 내역의 메모리 잔액 되돌리기 (LedgerEngine)
+	private final Consumer<History> deadLetterHandler;
+	private final Queue<LedgerEvent> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicLong enqueued = new AtomicLong();
+	private final AtomicLong persisted = new AtomicLong();
+	private final LongAdder deadLettered = new LongAdder();
+	private final Object persistedSignal = new Object();
+	private final Thread thread;
+	private volatile boolean running = true;
+
+	LedgerPersister(LedgerStore store, int batchSize, Consumer<History> deadLetterHandler) {
+		this.store = store;
+		this.batchSize = batchSize;
+		this.deadLetterHandler = deadLetterHandler;
+		this.thread = new Thread(this, "ledger-persister");
+		this.thread.setDaemon(true);
+	}
+
+	void start() {
+		thread.start();
+	}
+
+	void stop() throws InterruptedException {
+		running = false;
+		LockSupport.unpark(thread);
+		thread.join();
+	}
+
+	void record(History history, LedgerResult result, IdempotencyKey idempotencyKey, CompletableFuture<LedgerResult> future) {
+		enqueued.incrementAndGet();
+		queue.offer(new LedgerEvent(history, result, idempotencyKey, future));
+		LockSupport.unpark(thread);
+	}
+
+	// 아직 저장되지 않은 이벤트 수
+	long pending() {
+		return enqueued.get() - persisted.get();
+	}
+
+	// 저장하지 못하고 되돌린 이벤트 수
+	long deadLettered() {
+		return deadLettered.sum();
+	}
+
+	// 저장 대기 중인 이벤트가 모두 처리될 때까지 대기
+	void awaitPersisted() throws InterruptedException {
+		synchronized (persistedSignal) {
+			while (pending() > 0) {
+				persistedSignal.wait();
+			}
+		}
+	}
+
+	@Override
+	public void run() {
+		List<LedgerEvent> batch = new ArrayList<>(batchSize);
+		int attempts = 0;
+		while (running || queue.isEmpty() == false || batch.isEmpty() == false) {
+			if (batch.isEmpty()) {
+				LedgerEvent event;
+				while (batch.size() < batchSize && (event = queue.poll()) != null) {
+					batch.add(event);
+				}
+			}
+			if (batch.isEmpty()) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+				continue;
+			}
+			try {
+				write(batch);
+				completed(batch);
+				attempts = 0;
+			} catch (RuntimeException e) {
+				attempts++;
+				if (attempts < MAX_BATCH_ATTEMPTS) {
+					log.warn("원장 배치 저장 실패 - 재시도 합니다. size={}, attempt={}", batch.size(), attempts, e);
+					LockSupport.parkNanos(this, RETRY_PARK_NANOS);
+					continue;
+				}
+				// 배치 안의 일부 이벤트 때문일 수 있으므로 한 건씩 저장
+				log.error("원장 배치 저장 실패 - 한 건씩 저장합니다. size={}", batch.size(), e);
+				writeOneByOne(batch);
+				attempts = 0;
+			}
+			batch.clear();
+		}
+	}
+
+	private void writeOneByOne(List<LedgerEvent> batch) {
+		for (LedgerEvent event : batch) {
+			try {
+				write(List.of(event));
+				completed(List.of(event));
+			} catch (RuntimeException e) {
+				deadLetter(event, e);
+			}
+		}
+	}
+
+	private void deadLetter(LedgerEvent event, RuntimeException e) {
+		log.error("원장 이벤트 저장 실패 (dead-letter) - 메모리 잔액을 되돌립니다. history={}", event.history(), e);
+		deadLettered.increment();
+		deadLetterHandler.accept(event.history());
+		event.future().completeExceptionally(e);
+		persisted(1);
+	}
+
+	private void completed(List<LedgerEvent> events) {
+		for (LedgerEvent event : events) {
+			event.future().complete(event.result());
+		}
+		persisted(events.size());
+	}
+
+	private void persisted(int count) {
+		if (persisted.addAndGet(count) == enqueued.get()) {
+			synchronized (persistedSignal) {
+				persistedSignal.notifyAll();
+			}
+		}
+	}
+
+	// 출금 계좌 -금액, 입금 계좌 +금액 (같은 계좌는 합산)
+	// 이미 저장된 요청 키가 있으면 (유니크 인덱스) 배치가 실패하고, 한 건씩 저장할 때 그 이벤트만 되돌린다.
+	private void write(List<LedgerEvent> events) {
+		List<History> historyList = new ArrayList<>(events.size());
+		Map<Integer, Long> balanceDeltas = new LinkedHashMap<>();
+		List<IdempotencyKey> idempotencyKeys = new ArrayList<>();
+		for (LedgerEvent event : events) {
+			History history = event.history();
+			historyList.add(history);
+			if (event.idempotencyKey() != null) {
+				idempotencyKeys.add(event.idempotencyKey());
+			}
+			if (history.getWAccountId() != null) {
+				balanceDeltas.merge(history.getWAccountId(), -history.getAmount(), Long::sum);
+			}
+			if (history.getDAccountId() != null) {
+				balanceDeltas.merge(history.getDAccountId(), history.getAmount(), Long::sum);
+			}
+		}
+		store.persist(historyList, balanceDeltas, idempotencyKeys);
+	}
+}
@@ -0,0 +1,9 @@
+package com.tenco.bank.ledger;
+
+/**
+ * 원장 처리 결과 - 거래 후 잔액
+ * @param wBalance 출금 계좌 잔액 (입금이면 null)
+ * @param dBalance 입금 계좌 잔액 (출금이면 null)
+ */
+public record LedgerResult(Long wBalance, Long dBalance) {
+}
@@ -0,0 +1,147 @@
+package com.tenco.bank.ledger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.http.HttpStatus;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.repository.model.IdempotencyKey;
+import com.tenco.bank.utils.Define;
+
+/**
+ * 단일 쓰기 스레드 샤드
+ * 샤드에 속한 계좌 잔액은 이 스레드만 읽고 쓰기 때문에 락이 필요 없다.
+ * 명령 하나가 저장 이벤트 하나가 된다. (이체는 입금 샤드에서 출금/입금 양쪽을 담은 이벤트 하나)
+ */
+class LedgerShard implements Runnable {
+
+	private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+	private final LedgerEngine engine;
+	private final LedgerStore store;
+	// 저장 이벤트 전달
+	private final LedgerPersister persister;
+	private final Queue<LedgerCommand> queue = new ConcurrentLinkedQueue<>();
+	// 쓰기 스레드 전용 - 동기화 불필요
+	private final Map<Integer, Long> balances = new HashMap<>();
+	private final Thread thread;
+	private volatile boolean running = true;
+
+	LedgerShard(int index, LedgerEngine engine, LedgerStore store, LedgerPersister persister) {
+		this.engine = engine;
+		this.store = store;
+		this.persister = persister;
+		this.thread = new Thread(this, "ledger-shard-" + index);
+		this.thread.setDaemon(true);
+	}
+
+	void start() {
+		thread.start();
+	}
+
+	void stop() throws InterruptedException {
+		running = false;
+		LockSupport.unpark(thread);
+		thread.join();
+	}
+
+	void submit(LedgerCommand command) {
+		queue.offer(command);
+		LockSupport.unpark(thread);
+	}
+
+	@Override
+	public void run() {
+		while (running || queue.isEmpty() == false) {
+			LedgerCommand command = queue.poll();
+			if (command == null) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+				continue;
+			}
+			try {
+				handle(command);
+			} catch (RuntimeException e) {
+				command.future.completeExceptionally(e);
+			} finally {
+				engine.done();
+			}
+		}
+	}
+
+	private void handle(LedgerCommand command) {
+		switch (command.type) {
+		case WITHDRAW -> {
+			long wBalance = debit(command.wAccountId, command.amount);
+			persister.record(History.builder().amount(command.amount).wAccountId(command.wAccountId).wBalance(wBalance).build(), new LedgerResult(wBalance, null),
+					withBalance(command.idempotencyKey, wBalance), command.future);
+		}
+		case DEPOSIT -> {
+			long dBalance = credit(command.dAccountId, command.amount);
+			persister.record(History.builder().amount(command.amount).dAccountId(command.dAccountId).dBalance(dBalance).build(), new LedgerResult(null, dBalance),
+					withBalance(command.idempotencyKey, dBalance), command.future);
+		}
+		case TRANSFER_OUT -> {
+			// 차감은 메모리에만 반영하고 저장은 입금 샤드가 양쪽을 한 이벤트로 넘긴다. (출금만 저장되고 입금이 유실되는 경우 없음)
+			LedgerCommand transferIn = new LedgerCommand(LedgerCommand.Type.TRANSFER_IN, command.wAccountId, command.dAccountId, command.amount,
+					command.idempotencyKey, command.future);
+			transferIn.wBalance = debit(command.wAccountId, command.amount);
+			engine.dispatch(command.dAccountId, transferIn);
+		}
+		case TRANSFER_IN -> {
+			long dBalance;
+			try {
+				dBalance = credit(command.dAccountId, command.amount);
+			} catch (RuntimeException e) {
+				// 입금 계좌 적재 실패 - 출금 샤드의 메모리 차감을 되돌린다.
+				engine.compensate(command.wAccountId, command.amount);
+				throw e;
+			}
+			persister.record(History.builder().amount(command.amount).wAccountId(command.wAccountId).dAccountId(command.dAccountId).wBalance(command.wBalance)
+					.dBalance(dBalance).build(), new LedgerResult(command.wBalance, dBalance), withBalance(command.idempotencyKey, command.wBalance), command.future);
+		}
+		case COMPENSATE -> balances.computeIfPresent(command.dAccountId, (accountId, balance) -> balance + command.amount);
+		}
+	}
+
+	// 요청 키에 처리 결과 잔액 기록 (재요청시 돌려줄 값 - 이체는 출금 후 잔액)
+	private IdempotencyKey withBalance(IdempotencyKey idempotencyKey, Long balance) {
+		if (idempotencyKey != null) {
+			idempotencyKey.setBalance(balance);
+		}
+		return idempotencyKey;
+	}
+
+	private long debit(Integer accountId, Long amount) {
+		long balance = balanceOf(accountId);
+		if (balance < amount) {
+			throw new DataDeliveryException(Define.LACK_Of_BALANCE, HttpStatus.BAD_REQUEST);
+		}
+		balance -= amount;
+		balances.put(accountId, balance);
+		return balance;
+	}
+
+	private long credit(Integer accountId, Long amount) {
+		long balance = balanceOf(accountId) + amount;
+		balances.put(accountId, balance);
+		return balance;
+	}
+
+	// 처음 접근하는 계좌만 DB 에서 적재
+	private long balanceOf(Integer accountId) {
+		Long balance = balances.get(accountId);
+		if (balance == null) {
+			balance = store.loadBalance(accountId);
+			if (balance == null) {
+				throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
+			}
+			balances.put(accountId, balance);
+		}
+		return balance;
+	}
+}
@@ -0,0 +1,20 @@
+package com.tenco.bank.ledger;
+
+import java.util.List;
+import java.util.Map;
+
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.repository.model.IdempotencyKey;
+
+/**
+ * 원장 엔진의 영속 계층 (잔액 최초 적재 + 배치 저장)
+ */
+public interface LedgerStore {
+
+	// 계좌가 없으면 null 반환
+	public Long loadBalance(Integer accountId);
+
+	// 거래 내역, 계좌별 잔액 증감(음수는 차감), 요청 키(처리 결과 잔액 포함)를 하나의 트랜잭션으로 저장
+	// 이미 있는 요청 키면 DuplicateKeyException, 저장된 잔액이 음수가 되는 증감이면 DataDeliveryException (잔액 부족)
+	public void persist(List<History> historyList, Map<Integer, Long> balanceDeltas, List<IdempotencyKey> idempotencyKeys);
+}
@@ -0,0 +1,53 @@
+package com.tenco.bank.ledger;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+
+import com.tenco.bank.history.HistoryWriter;
+import com.tenco.bank.repository.interfaces.AccountRepository;
+import com.tenco.bank.repository.interfaces.IdempotencyKeyRepository;
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.repository.model.IdempotencyKey;
+import com.tenco.bank.utils.Define;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MyBatis 매퍼를 이용한 원장 저장소
+ */
+@RequiredArgsConstructor
+public class MyBatisLedgerStore implements LedgerStore {
+
+	private final AccountRepository accountRepository;
+	private final HistoryWriter historyWriter;
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Override
+	public Long loadBalance(Integer accountId) {
+		return accountRepository.findBalanceById(accountId);
+	}
+
+	@Override
+	public void persist(List<History> historyList, Map<Integer, Long> balanceDeltas, List<IdempotencyKey> idempotencyKeys) {
+		transactionTemplate.executeWithoutResult(status -> {
+			// 중복 키면 거래 내역을 쓰기 전에 실패하도록 먼저 저장
+			if (idempotencyKeys.isEmpty() == false) {
+				idempotencyKeyRepository.insertAll(idempotencyKeys);
+			}
+			historyWriter.writeAll(historyList);
+			// 샤드는 아직 저장되지 않은 입금액도 출금에 쓸 수 있다.
+			// 그 입금이 dead-letter 되면 이 차감으로 잔액이 음수가 되므로 배치를 롤백 -> 한 건씩 저장할 때 해당 출금도 dead-letter 된다.
+			balanceDeltas.forEach((accountId, delta) -> {
+				if (accountRepository.addBalanceById(accountId, delta) == 0) {
+					throw new DataDeliveryException(Define.LACK_Of_BALANCE, HttpStatus.BAD_REQUEST);
+				}
+			});
+		});
+	}
+}
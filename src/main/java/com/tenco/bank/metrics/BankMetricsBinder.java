@@ -0,0 +1,45 @@
+package com.tenco.bank.metrics;
+
+import org.springframework.stereotype.Component;
+
+import com.tenco.bank.history.HistoryBatchStats;
+import com.tenco.bank.history.HistoryWriter;
+import com.tenco.bank.repository.cache.AccountCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 계좌 캐시, 거래 내역 묶음 insert 통계를 메트릭으로 노출
+ * 커넥션 풀(hikaricp.*), HTTP 요청(http.server.requests)은 actuator 가 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BankMetricsBinder implements MeterBinder {
+
+	private final AccountCache accountCache;
+	private final HistoryWriter historyWriter;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		// 번호 조회, id 조회 모두 포함
+		Gauge.builder("bank.account.cache.size", accountCache, AccountCache::size).register(registry);
+		FunctionCounter.builder("bank.account.cache.requests", accountCache, AccountCache::getHits).tag("result", "hit").register(registry);
+		FunctionCounter.builder("bank.account.cache.requests", accountCache, AccountCache::getMisses).tag("result", "miss").register(registry);
+		FunctionCounter.builder("bank.account.cache.evictions", accountCache, AccountCache::getEvictions).register(registry);
+
+		// 묶음 insert 사용시에만
+		HistoryBatchStats stats = historyWriter.getBatchStats();
+		if (stats == null) {
+			return;
+		}
+		FunctionCounter.builder("bank.history.batch.insert.batches", stats, HistoryBatchStats::getBatches).register(registry);
+		FunctionCounter.builder("bank.history.batch.insert.rows", stats, HistoryBatchStats::getRows).register(registry);
+		FunctionCounter.builder("bank.history.batch.insert.failures", stats, HistoryBatchStats::getFailedBatches).register(registry);
+		Gauge.builder("bank.history.batch.insert.fill", stats, HistoryBatchStats::getAverageFill).register(registry);
+		Gauge.builder("bank.history.batch.insert.time.max", stats, HistoryBatchStats::getMaxInsertMillis).baseUnit("milliseconds").register(registry);
+	}
+}
@@ -0,0 +1,115 @@
+package com.tenco.bank.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 느린 SQL 로그
+ * 기준 시간을 넘은 statement 는 모두, 나머지는 sample-rate 비율만 bank.sql 로거로 남긴다.
+ * 실행 시간은 SqlMetricsInterceptor 가 한 번만 측정해서 넘겨준다. (statement 별 누적 통계도 같은 값 사용)
+ * 로그는 logback-spring.xml 의 AsyncAppender 가 별도 스레드에서 출력하고
+ * 바인딩 파라미터 중 이름에 password 가 들어간 값은 가린다.
+ */
+@Component
+public class SlowQueryLog {
+
+	private static final Logger SQL_LOG = LoggerFactory.getLogger("bank.sql");
+	private static final String REDACTED = "****";
+
+	private final long slowThresholdNanos;
+	private final double sampleRate;
+	private final Map<String, SqlStatementStats> stats = new ConcurrentHashMap<>();
+
+	public SlowQueryLog(@Value("${bank.sql-log.slow-threshold-ms:200}") long slowThresholdMillis,
+			@Value("${bank.sql-log.sample-rate:0.0}") double sampleRate) {
+		this.slowThresholdNanos = slowThresholdMillis * 1_000_000L;
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * statement 실행 1건 기록
+	 * @param ms
+	 * @param parameter
+	 * @param statement 통계, 로그에 쓰는 짧은 이름 (HistoryRepository.insert)
+	 * @param elapsedNanos
+	 * @param result
+	 * @param error 실패하지 않았으면 null
+	 */
+	void record(MappedStatement ms, Object parameter, String statement, long elapsedNanos, Object result, Throwable error) {
+		boolean slow = elapsedNanos >= slowThresholdNanos;
+		stats.computeIfAbsent(statement, key -> new SqlStatementStats()).record(elapsedNanos, slow, error != null);
+		if (slow || error != null || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+			log(ms, parameter, statement, elapsedNanos, slow, result, error);
+		}
+	}
+
+	private void log(MappedStatement ms, Object parameter, String statement, long elapsedNanos, boolean slow, Object result, Throwable error) {
+		if ((slow || error != null ? SQL_LOG.isWarnEnabled() : SQL_LOG.isInfoEnabled()) == false) {
+			return;
+		}
+		BoundSql boundSql = ms.getBoundSql(parameter);
+		String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+		String params = String.join(", ", boundParameters(ms.getConfiguration(), boundSql, parameter));
+		String format = "statement={} elapsedMs={} slow={} rows={} error={} sql=\"{}\" params=[{}]";
+		Object[] args = { statement, String.format("%.3f", elapsedNanos / 1_000_000.0), slow, rowsOf(result), error == null ? "-" : error.getClass().getSimpleName(), sql, params };
+		if (slow || error != null) {
+			SQL_LOG.warn(format, args);
+		} else {
+			SQL_LOG.info(format, args);
+		}
+	}
+
+	// DefaultParameterHandler 와 같은 방식으로 값을 찾는다.
+	private List<String> boundParameters(Configuration configuration, BoundSql boundSql, Object parameter) {
+		List<String> values = new ArrayList<>();
+		MetaObject metaObject = null;
+		for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+			String property = mapping.getProperty();
+			Object value;
+			if (property.toLowerCase(Locale.ROOT).contains("password")) {
+				value = REDACTED;
+			} else if (boundSql.hasAdditionalParameter(property)) {
+				value = boundSql.getAdditionalParameter(property);
+			} else if (parameter == null) {
+				value = null;
+			} else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+				value = parameter;
+			} else {
+				if (metaObject == null) {
+					metaObject = configuration.newMetaObject(parameter);
+				}
+				value = metaObject.getValue(property);
+			}
+			values.add(property + "=" + value);
+		}
+		return values;
+	}
+
+	private Object rowsOf(Object result) {
+		if (result instanceof List<?> list) {
+			return list.size();
+		}
+		if (result instanceof Integer count) {
+			return count;
+		}
+		return "-";
+	}
+
+	public Map<String, SqlStatementStats> getStats() {
+		return stats;
+	}
+}
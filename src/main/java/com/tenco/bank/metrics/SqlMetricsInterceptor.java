@@ -0,0 +1,85 @@
+package com.tenco.bank.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매퍼 statement 별 실행 시간 측정 (MyBatis 플러그인)
+ * bank.sql{statement="HistoryRepository.insert", type="INSERT", outcome="success"}
+ * Timer 는 statement, 결과별로 처음 한 번만 만들어 재사용하고, 측정한 시간은 느린 SQL 로그(SlowQueryLog)에도 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({ @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+		@Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+		@Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+		@Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class, RowBounds.class }) })
+public class SqlMetricsInterceptor implements Interceptor {
+
+	// statement id 별 짧은 이름, 성공/실패 Timer
+	private record StatementMeters(String statement, Timer success, Timer error) {
+	}
+
+	private final MeterRegistry meterRegistry;
+	private final SlowQueryLog slowQueryLog;
+	private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+		long startedAt = System.nanoTime();
+		Object result = null;
+		Throwable error = null;
+		try {
+			result = invocation.proceed();
+			return result;
+		} catch (Throwable e) {
+			error = e;
+			throw e;
+		} finally {
+			long elapsedNanos = System.nanoTime() - startedAt;
+			StatementMeters statementMeters = meters.computeIfAbsent(ms.getId(), id -> register(ms));
+			(error == null ? statementMeters.success() : statementMeters.error()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+			slowQueryLog.record(ms, invocation.getArgs()[1], statementMeters.statement(), elapsedNanos, result, error);
+		}
+	}
+
+	private StatementMeters register(MappedStatement ms) {
+		String statement = statementName(ms.getId());
+		return new StatementMeters(statement, timer(ms, statement, "success"), timer(ms, statement, "error"));
+	}
+
+	private Timer timer(MappedStatement ms, String statement, String outcome) {
+		return Timer.builder("bank.sql")
+				.description("매퍼 statement 실행 시간")
+				.tag("statement", statement)
+				.tag("type", ms.getSqlCommandType().name())
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	// com.tenco.bank.repository.interfaces.HistoryRepository.insert --> HistoryRepository.insert
+	static String statementName(String id) {
+		int method = id.lastIndexOf('.');
+		int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+		return id.substring(type + 1);
+	}
+}
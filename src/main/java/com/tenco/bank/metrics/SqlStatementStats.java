@@ -0,0 +1,49 @@
+package com.tenco.bank.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * statement 하나의 누적 실행 통계 (메모리)
+ */
+public class SqlStatementStats {
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder slow = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	void record(long elapsedNanos, boolean isSlow, boolean isError) {
+		count.increment();
+		totalNanos.add(elapsedNanos);
+		maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+		if (isSlow) {
+			slow.increment();
+		}
+		if (isError) {
+			errors.increment();
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	public long getSlow() {
+		return slow.sum();
+	}
+
+	public double getAverageMillis() {
+		long n = count.sum();
+		return n == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / n;
+	}
+
+	public double getMaxMillis() {
+		return maxNanos.get() / 1_000_000.0;
+	}
+}
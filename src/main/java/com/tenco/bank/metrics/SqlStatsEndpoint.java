@@ -0,0 +1,27 @@
+package com.tenco.bank.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * statement 별 누적 통계 조회
+ * http://127.0.0.1:8081/actuator/sqlstats
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+	private final SlowQueryLog slowQueryLog;
+
+	@ReadOperation
+	public Map<String, SqlStatementStats> sqlStats() {
+		return new TreeMap<>(slowQueryLog.getStats());
+	}
+}
@@ -0,0 +1,170 @@
+package com.tenco.bank.repository.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.utils.LruCache;
+
+/**
+ * 계좌 조회 캐시 (계좌 번호, 계좌 id 기준 read-through)
+ * account_tb 를 변경하는 매퍼 실행시 AccountCacheInvalidationInterceptor 가 해당 계좌를 제거한다.
+ * 캐시된 엔티티가 외부에서 변경되지 않도록 항상 복사본을 반환한다.
+ * 잔액, 버전은 자주 바뀌므로 캐시하지 않는다. (반환 값의 balance, version 은 null - 필요하면 DB 에서 읽는다)
+ * 제거와 조회(DB 로딩)가 겹치면 로딩한 옛 값을 다시 넣지 않도록, 계좌별 세대 번호가 로딩 전과 같을 때만 넣는다.
+ */
+@Component
+public class AccountCache {
+
+	// 계좌 id 별 세대 번호 (id 를 나눈 구역 단위 - 같은 구역의 다른 계좌가 제거되면 한 번 넣지 않을 뿐 안전하다)
+	private static final int GENERATION_STRIPES = 1024;
+
+	private final boolean enabled;
+	private final LruCache<Integer, Account> byId;
+	// 계좌 번호 --> 계좌 id
+	private final LruCache<String, Integer> idByNumber;
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+	// 전체 제거 횟수 - 아직 id 를 모르는 번호 조회의 로딩 전후 비교용
+	private final AtomicLong evictionSequence = new AtomicLong();
+	// 번호/id 조회 모두 포함한 적중/실패 횟수
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public AccountCache(@Value("${bank.account-cache.enabled:true}") boolean enabled, @Value("${bank.account-cache.max-size:10000}") int maxSize) {
+		this.enabled = enabled;
+		this.byId = new LruCache<>(maxSize);
+		this.idByNumber = new LruCache<>(maxSize);
+	}
+
+	/**
+	 * 계좌 번호로 조회
+	 * @param number
+	 * @param loader 캐시에 없을 때 DB 조회
+	 * @return 없으면 null (잔액, 버전 제외)
+	 */
+	public Account getByNumber(String number, Function<String, Account> loader) {
+		if (enabled == false) {
+			return withoutBalance(loader.apply(number));
+		}
+		Integer id = idByNumber.get(number);
+		Account cached = id == null ? null : byId.get(id);
+		if (cached != null && number.equals(cached.getNumber())) {
+			hits.increment();
+			return copy(cached);
+		}
+		misses.increment();
+		long generation = id == null ? -1 : generations.get(stripe(id));
+		long sequence = evictionSequence.get();
+		Account loaded = loader.apply(number);
+		if (loaded == null) {
+			return null;
+		}
+		boolean sameId = loaded.getId().equals(id);
+		return cache(loaded, sameId ? generation : -1, sequence);
+	}
+
+	/**
+	 * 계좌 id 로 조회
+	 * @param accountId
+	 * @param loader 캐시에 없을 때 DB 조회
+	 * @return 없으면 null (잔액, 버전 제외)
+	 */
+	public Account getById(Integer accountId, Function<Integer, Account> loader) {
+		if (enabled == false) {
+			return withoutBalance(loader.apply(accountId));
+		}
+		Account cached = byId.get(accountId);
+		if (cached != null) {
+			hits.increment();
+			return copy(cached);
+		}
+		misses.increment();
+		long generation = generations.get(stripe(accountId));
+		Account loaded = loader.apply(accountId);
+		if (loaded == null) {
+			return null;
+		}
+		return cache(loaded, generation, -1);
+	}
+
+	// 세대 번호를 먼저 올려서 이미 로딩 중인 조회가 옛 값을 넣지 못하게 한다.
+	public synchronized void evict(Integer accountId) {
+		generations.incrementAndGet(stripe(accountId));
+		evictionSequence.incrementAndGet();
+		Account removed = byId.remove(accountId);
+		if (removed != null) {
+			idByNumber.remove(removed.getNumber());
+		}
+	}
+
+	public synchronized void evictAll() {
+		for (int i = 0; i < GENERATION_STRIPES; i++) {
+			generations.incrementAndGet(i);
+		}
+		evictionSequence.incrementAndGet();
+		byId.clear();
+		idByNumber.clear();
+	}
+
+	public int size() {
+		return byId.size();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return byId.getEvictions();
+	}
+
+	/**
+	 * 로딩 전 세대 번호(또는 전체 제거 횟수)가 그대로일 때만 캐시
+	 * @param loaded
+	 * @param generation 로딩 전 계좌의 세대 번호 (모르면 -1)
+	 * @param sequence 로딩 전 전체 제거 횟수 (세대 번호를 알면 -1)
+	 * @return 잔액, 버전을 뺀 복사본
+	 */
+	private synchronized Account cache(Account loaded, long generation, long sequence) {
+		Account entry = withoutBalance(loaded);
+		// 읽기 전용 트랜잭션은 replica 에서 읽었을 수 있으므로 (복제 지연) 캐시에 넣지 않는다.
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return entry;
+		}
+		boolean unchanged = generation >= 0 ? generations.get(stripe(loaded.getId())) == generation : evictionSequence.get() == sequence;
+		if (unchanged) {
+			byId.put(loaded.getId(), copy(entry));
+			idByNumber.put(loaded.getNumber(), loaded.getId());
+		}
+		return entry;
+	}
+
+	private int stripe(Integer accountId) {
+		return Math.floorMod(accountId, GENERATION_STRIPES);
+	}
+
+	private Account withoutBalance(Account account) {
+		if (account == null) {
+			return null;
+		}
+		Account entry = copy(account);
+		entry.setBalance(null);
+		entry.setVersion(null);
+		return entry;
+	}
+
+	private Account copy(Account account) {
+		return Account.builder().id(account.getId()).number(account.getNumber()).password(account.getPassword()).balance(account.getBalance()).userId(account.getUserId())
+				.createdAt(account.getCreatedAt()).version(account.getVersion()).build();
+	}
+}
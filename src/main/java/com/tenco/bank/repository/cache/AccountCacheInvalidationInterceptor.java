@@ -0,0 +1,77 @@
+package com.tenco.bank.repository.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tenco.bank.repository.model.Account;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * account_tb 변경 매퍼 실행시 계좌 캐시 무효화 (MyBatis 플러그인)
+ * 캐시에는 잔액, 버전이 없으므로 캐시하는 컬럼(번호, 비밀번호, 소유자)을 바꾸는 매퍼만 무효화한다.
+ * (잔액만 바꾸는 withdrawById, depositById, addBalanceById 등은 캐시를 건드리지 않는다)
+ * 실행 직후 한 번, 커밋 후 한 번 더 제거해서 커밋 전에 다른 요청이 옛 값을 다시 캐시하는 경우를 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({ @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }) })
+public class AccountCacheInvalidationInterceptor implements Interceptor {
+
+	private static final String NAMESPACE = "com.tenco.bank.repository.interfaces.AccountRepository.";
+	private static final Set<String> ACCOUNT_WRITES = Set.of("updateById", "deleteById");
+
+	private final AccountCache accountCache;
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+		Object result = invocation.proceed();
+		String id = ms.getId();
+		if (id.startsWith(NAMESPACE) && ACCOUNT_WRITES.contains(id.substring(NAMESPACE.length()))) {
+			Integer accountId = accountIdOf(invocation.getArgs()[1]);
+			if (accountId != null) {
+				evict(accountId);
+			} else {
+				accountCache.evictAll();
+			}
+		}
+		return result;
+	}
+
+	private void evict(Integer accountId) {
+		accountCache.evict(accountId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					accountCache.evict(accountId);
+				}
+			});
+		}
+	}
+
+	// 파라미터 형태 : Account 엔티티, Integer id, @Param 맵("id")
+	private Integer accountIdOf(Object parameter) {
+		if (parameter instanceof Account account) {
+			return account.getId();
+		}
+		if (parameter instanceof Integer id) {
+			return id;
+		}
+		if (parameter instanceof Map<?, ?> map && map.containsKey("id") && map.get("id") instanceof Integer id) {
+			return id;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,46 @@
+package com.tenco.bank.repository.interfaces;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.tenco.bank.dto.PageRows;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.repository.model.AccountEntry;
+import com.tenco.bank.repository.model.HistoryAccount;
+import com.tenco.bank.utils.PageCursor;
+
+// AccountEntryRepository, account_entry.xml 파일을 매칭 시킨다.
+@Mapper
+public interface AccountEntryRepository {
+
+	// 다중 행 insert - 계좌 번호는 account_tb, 거래 시각은 history_tb 에서 가져온다.
+	public int insertAll(@Param("list") List<AccountEntry> entries);
+
+	// 거래 내역 조회 - 계좌 id 인덱스 범위 스캔 한 번으로 처리 (조인 없음)
+	// 키셋 페이징 : cursor 가 null 이면 첫 페이지(최신순)
+	public List<HistoryAccount> findByAccountIdAndType(@Param("type") String type, @Param("accountId") Integer accountId, @Param("cursor") PageCursor cursor, @Param("limit") int limit);
+
+	// 계좌 상세 화면 - 계좌 정보 + 전체 건수 + 거래 내역 페이지를 한 번에 조회 (계좌가 없으면 null)
+	public PageRows<Account, HistoryAccount> findPageByAccountIdAndType(@Param("type") String type, @Param("accountId") Integer accountId,
+			@Param("cursor") PageCursor cursor, @Param("limit") int limit);
+
+	// 거래명세서 - 기간 [from, to) 의 거래를 오래된 순으로 limit 건 (null 이면 제한 없음)
+	// (afterCreatedAt, afterId) 이후 행부터, afterCreatedAt 이 null 이면 처음부터
+	public List<HistoryAccount> findStatementPage(@Param("accountId") Integer accountId, @Param("from") Timestamp from, @Param("to") Timestamp to,
+			@Param("afterCreatedAt") Timestamp afterCreatedAt, @Param("afterId") Integer afterId, @Param("limit") int limit);
+
+	public int countByAccountIdAndType(@Param("type") String type, @Param("accountId") Integer accountId);
+
+	// 과거 시점 잔액 - 스냅샷 이후 거래 (afterHistoryId 초과, created_at [from, to]) 의 입금(+), 출금(-) 합계
+	public long sumAmountAfterSnapshot(@Param("accountId") Integer accountId, @Param("afterHistoryId") Integer afterHistoryId, @Param("from") Timestamp from,
+			@Param("to") Timestamp to);
+
+	// 과거 시점 잔액 (스냅샷이 없을 때) - at 이전 마지막 거래 (없으면 null)
+	public AccountEntry findLastAtOrBefore(@Param("accountId") Integer accountId, @Param("at") Timestamp at);
+
+	// 과거 시점 잔액 (스냅샷이 없을 때) - at 이후 첫 거래 (없으면 null)
+	public AccountEntry findFirstAfter(@Param("accountId") Integer accountId, @Param("at") Timestamp at);
+}
@@ -1,11 +1,14 @@
 package com.tenco.bank.repository.interfaces;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.tenco.bank.dto.PageRows;
 import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.utils.PageCursor;
 
 @Mapper
 public interface AccountRepository {
@@ -13,20 +16,47 @@ public interface AccountRepository {
 
 	public int updateById(Account account);
 
+	// 잔액 조건부 출금 - 잔액 부족시 0 반환
+	public int withdrawById(@Param("id") Integer id, @Param("amount") Long amount);
+
+	public int depositById(@Param("id") Integer id, @Param("amount") Long amount);
+
+	// 원장 엔진 배치 저장 - 잔액 증감 반영 (음수는 차감), 반영 후 잔액이 음수가 되면 0 반환
+	public int addBalanceById(@Param("id") Integer id, @Param("delta") Long delta);
+
+	// 버전 조건부 잔액 변경 - 다른 거래가 먼저 변경했으면 0 반환
+	public int updateBalanceByIdAndVersion(@Param("id") Integer id, @Param("balance") Long balance, @Param("version") Long version);
+
+	// 일괄 이체 - 잔액 한 번에 갱신 (id, balance 만 사용)
+	public int updateBalances(@Param("accounts") List<Account> accounts);
+
 	public int deleteById(Integer id);
 
 	// interface 파라미터명과 xml 에 사용 할  변수명을 다르게 사용해야 한다면 @param 애노테이션을
 	// 사용할 수 있다. 그리고 2개 이상의 파라미터를 사용할 경우 반드시 사용하자 !!
 	// --> 한 사람이 여러개의 계좌 번호를 가질 수 있다.
-	public List<Account> findByUserId(@Param("userId") Integer principalId, @Param("limit") int limit, @Param("offset") int offset);
+	// --> 키셋 페이징 : cursor 가 null 이면 첫 페이지
+	public List<Account> findByUserId(@Param("userId") Integer principalId, @Param("cursor") PageCursor cursor, @Param("limit") int limit);
+
+	// 계좌 목록 화면 - 전체 건수 + 페이지를 한 번에 조회 (유저가 없으면 null)
+	public PageRows<Void, Account> findPageByUserId(@Param("userId") Integer userId, @Param("cursor") PageCursor cursor, @Param("limit") int limit);
 
 	// --> account id 값으로 계좌 정보 조회
 	public Account findByNumber(@Param("number") String id);
 
+	// 일괄 이체 - 계좌 번호 목록의 id 조회 (잠금 없음)
+	public List<Integer> findIdsByNumbers(@Param("numbers") Collection<String> numbers);
+
+	// 일괄 이체 - id 순서로 잠금 조회 (select ... for update)
+	public List<Account> findByIdsForUpdate(@Param("ids") Collection<Integer> ids);
+
 	// 코드 추가 예정
 	public Account findByAccountId(Integer accountId);
 
 	// 유저의 계좌 갯수
 	public int countAccountByuserId(Integer userId);
 
+	// 계좌 잔액만 조회
+	public Long findBalanceById(Integer id);
+
 }
@@ -0,0 +1,30 @@
+package com.tenco.bank.repository.interfaces;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.tenco.bank.repository.model.BalanceSnapshot;
+
+// BalanceSnapshotRepository, balance_snapshot.xml 파일을 매칭 시킨다.
+@Mapper
+public interface BalanceSnapshotRepository {
+
+	// 워터마크 조회 + 행 잠금 (트랜잭션이 끝날 때까지 다른 서버의 스냅샷 작업 대기)
+	public Integer findWatermarkForUpdate();
+
+	public int updateWatermark(Integer lastHistoryId);
+
+	public Integer findWatermark();
+
+	// 워터마크 이후, before 이전에 생성된 마지막 거래내역 ID (없으면 null)
+	public Integer findLastHistoryIdBefore(@Param("afterId") Integer afterId, @Param("before") Timestamp before);
+
+	// 거래내역 (fromId, toId] 의 계좌별, 일별 마지막 잔액을 스냅샷에 반영 (있으면 더 최근 거래일 때만 갱신)
+	public int upsertRange(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+	// 기준일 이전(date 미포함)의 가장 최근 스냅샷 (없으면 null)
+	public BalanceSnapshot findLatestBefore(@Param("accountId") Integer accountId, @Param("date") Date date);
+}
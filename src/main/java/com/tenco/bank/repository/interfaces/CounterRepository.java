@@ -0,0 +1,38 @@
+package com.tenco.bank.repository.interfaces;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+// CounterRepository, counter.xml 파일을 매칭 시킨다.
+// 거래 항목 수, 계좌 수를 돈 이동 / 계좌 생성과 같은 트랜잭션에서 증가시킨다.
+@Mapper
+public interface CounterRepository {
+
+	public int insertAccountStat(Integer accountId);
+
+	public int increaseAccountStat(@Param("accountId") Integer accountId, @Param("depositCount") int depositCount, @Param("withdrawalCount") int withdrawalCount);
+
+	// 카운터 행이 없으면 null
+	public Integer findAccountStatCount(@Param("type") String type, @Param("accountId") Integer accountId);
+
+	public int insertUserStat(Integer userId);
+
+	public int increaseUserAccountCount(Integer userId);
+
+	// 카운터 행이 없으면 null
+	public Integer findUserAccountCount(Integer userId);
+
+	// 복구 작업 - 원본 테이블의 키 범위 (afterId, toId] 단위로 재계산
+	// 청크의 마지막 키 (afterId 이후 키가 없으면 null)
+	public Integer findAccountIdChunkEnd(@Param("afterId") int afterId, @Param("limit") int limit);
+
+	public int insertMissingAccountStats(@Param("afterId") int afterId, @Param("toId") int toId);
+
+	public int rebuildAccountStats(@Param("afterId") int afterId, @Param("toId") int toId);
+
+	public Integer findUserIdChunkEnd(@Param("afterId") int afterId, @Param("limit") int limit);
+
+	public int insertMissingUserStats(@Param("afterId") int afterId, @Param("toId") int toId);
+
+	public int rebuildUserStats(@Param("afterId") int afterId, @Param("toId") int toId);
+}
@@ -6,7 +6,6 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import com.tenco.bank.repository.model.History;
-import com.tenco.bank.repository.model.HistoryAccount;
 
 //HistoryRepository, history.xml 파일을 매칭 시킨다.
 @Mapper
@@ -14,6 +13,9 @@ public interface HistoryRepository {
 
 	public int insert(History history);
 
+	// 다중 행 insert
+	public int insertBatch(@Param("list") List<History> historyList);
+
 	public int updateById(History history);
 
 	public int deleteById(Integer id);
@@ -23,10 +25,4 @@ public interface HistoryRepository {
 
 	public List<History> findAll();
 
-	// 코드 추가 예정 - 모델을 반드시 엔터티에 매핑 시킬 필요는 없다.
-	// 조인 쿼리, 서브쿼리
-	public List<HistoryAccount> findByAccountIdAndTypeOfHistory(@Param("type") String type, @Param("accountId") Integer accountId, @Param("limit") int limit, @Param("offset") int offset);
-
-	public int countByAccountIdAndType(@Param("type") String type, @Param("accountId") Integer accountId);
-
 }
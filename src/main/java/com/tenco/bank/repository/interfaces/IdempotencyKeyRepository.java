@@ -0,0 +1,24 @@
+package com.tenco.bank.repository.interfaces;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.tenco.bank.repository.model.IdempotencyKey;
+
+@Mapper
+public interface IdempotencyKeyRepository {
+	// (user_id, idem_key) 유니크 - 중복이면 DuplicateKeyException
+	public int insert(IdempotencyKey idempotencyKey);
+
+	// LEDGER 모드 - 원장 저장 배치에서 처리 결과 잔액과 함께 다중 행 insert
+	public int insertAll(@Param("list") List<IdempotencyKey> idempotencyKeys);
+
+	public IdempotencyKey findByUserIdAndKey(@Param("userId") Integer userId, @Param("idemKey") String idemKey);
+
+	public int updateBalance(@Param("id") Long id, @Param("balance") Long balance);
+
+	public int deleteCreatedBefore(Timestamp before);
+}
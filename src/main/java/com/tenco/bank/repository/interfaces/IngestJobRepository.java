@@ -0,0 +1,24 @@
+package com.tenco.bank.repository.interfaces;
+
+import java.sql.Timestamp;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.tenco.bank.repository.model.IngestJob;
+
+@Mapper
+public interface IngestJobRepository {
+	public int insert(IngestJob job);
+
+	public IngestJob findById(Integer id);
+
+	// 작업 소유권 획득 (RUNNING 으로 변경), 1 이면 성공
+	public int claim(@Param("id") Integer id, @Param("owner") String owner, @Param("leaseUntil") Timestamp leaseUntil, @Param("now") Timestamp now);
+
+	// 청크 처리 결과 + 소유권 연장 (이체와 같은 트랜잭션)
+	public int updateProgress(@Param("job") IngestJob job, @Param("expectedPosition") Long expectedPosition);
+
+	// 작업 종료 (소유한 서버만)
+	public int updateStatus(@Param("id") Integer id, @Param("owner") String owner, @Param("status") String status, @Param("message") String message);
+}
@@ -28,4 +28,7 @@ public interface UserRepository {
 
 	// 코드 추가
 	public User findByUsername(@Param("username") String username);
+
+	// 로그인시 재해시 (cost 변경)
+	public int updatePasswordById(@Param("id") Integer id, @Param("password") String password);
 }
@@ -1,6 +1,7 @@
 package com.tenco.bank.repository.model;
 
 import java.sql.Timestamp;
+import java.util.Objects;
 
 import org.springframework.http.HttpStatus;
 
@@ -27,6 +28,8 @@ public class Account extends ValueFormatter {
 	private Long balance;
 	private Integer userId;
 	private Timestamp createdAt;
+	// 잔액 변경 버전 (OPTIMISTIC 모드 조건부 update 에 사용)
+	private Long version;
 
 	// 출금 기능
 	public void withdraw(Long amount) {
@@ -56,7 +59,7 @@ public class Account extends ValueFormatter {
 
 	// 계좌 소유자 확인 기능 - checkOwner 
 	public void checkOwner(Integer principalId) {
-		if (this.userId != principalId) {
+		if (Objects.equals(this.userId, principalId) == false) {
 			throw new DataDeliveryException(Define.NOT_ACCOUNT_OWNER, HttpStatus.BAD_REQUEST);
 		}
 	}
@@ -0,0 +1,56 @@
+package com.tenco.bank.repository.model;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 계좌별 거래 항목 (account_entry_tb)
+ * 거래 내역(history_tb) 1건을 계좌 면(출금/입금) 별로 나눈 행
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class AccountEntry {
+	public static final String WITHDRAWAL = "W";
+	public static final String DEPOSIT = "D";
+
+	private Integer id;
+	private Integer historyId;
+	private Integer accountId;
+	private String direction;
+	private Long amount;
+	private Long balance;
+	private String accountNumber;
+	private String counterpartyNumber;
+	private Timestamp createdAt;
+
+	/**
+	 * 저장된 거래 내역(id 존재)으로 계좌 면 별 항목 생성
+	 * 계좌 번호, 거래 시각은 거래 내역 객체의 값을 그대로 사용한다. (insert 시 다른 테이블 조회 없음)
+	 * @param history
+	 * @return 출금 면, 입금 면 (ATM 거래는 1건)
+	 */
+	public static List<AccountEntry> of(History history) {
+		List<AccountEntry> entries = new ArrayList<>(2);
+		if (history.getWAccountId() != null) {
+			entries.add(AccountEntry.builder().historyId(history.getId()).accountId(history.getWAccountId()).direction(WITHDRAWAL).amount(history.getAmount())
+					.balance(history.getWBalance()).accountNumber(history.getWAccountNumber()).counterpartyNumber(history.getDAccountNumber())
+					.createdAt(history.getCreatedAt()).build());
+		}
+		if (history.getDAccountId() != null) {
+			entries.add(AccountEntry.builder().historyId(history.getId()).accountId(history.getDAccountId()).direction(DEPOSIT).amount(history.getAmount())
+					.balance(history.getDBalance()).accountNumber(history.getDAccountNumber()).counterpartyNumber(history.getWAccountNumber())
+					.createdAt(history.getCreatedAt()).build());
+		}
+		return entries;
+	}
+}
@@ -0,0 +1,21 @@
+package com.tenco.bank.repository.model;
+
+import java.sql.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class BalanceSnapshot {
+	private Integer accountId;
+	private Date snapshotDate;
+	private Long balance;
+	private Integer historyId;
+}
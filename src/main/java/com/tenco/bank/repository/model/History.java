@@ -1,6 +1,6 @@
 package com.tenco.bank.repository.model;
 
-import java.security.Timestamp;
+import java.sql.Timestamp;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,4 +21,7 @@ public class History {
 	private Integer wAccountId;
 	private Integer dAccountId;
 	private Timestamp createdAt;
+	// 계좌별 거래 항목(account_entry_tb) 저장용 계좌 번호 (컬럼 아님, 비어 있으면 HistoryWriter 가 계좌 캐시에서 채운다)
+	private String wAccountNumber;
+	private String dAccountNumber;
 }
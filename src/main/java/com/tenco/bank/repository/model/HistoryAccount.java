@@ -17,6 +17,7 @@ import lombok.ToString;
 @ToString
 public class HistoryAccount extends ValueFormatter {
 	private Integer id;
+	private String direction; // W, D (거래명세서 조회시에만)
 	private Long amount;
 	private Long balance;
 	private String sender;
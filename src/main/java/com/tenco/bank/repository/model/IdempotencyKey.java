@@ -0,0 +1,23 @@
+package com.tenco.bank.repository.model;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class IdempotencyKey {
+	private Long id;
+	private Integer userId;
+	private String idemKey;
+	private String fingerprint;
+	private Long balance;
+	private Timestamp createdAt;
+}
@@ -0,0 +1,38 @@
+package com.tenco.bank.repository.model;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class IngestJob {
+
+	public static final String RUNNING = "RUNNING";
+	public static final String DONE = "DONE";
+	public static final String FAILED = "FAILED";
+
+	private Integer id;
+	private Integer userId;
+	private String fileName;
+	private String format;
+	private String status;
+	private Long position;
+	private Long lineNo;
+	private Long resultPosition;
+	private Integer succeeded;
+	private Integer failed;
+	private String message;
+	// 처리 중인 서버와 소유권 만료 시각 (청크마다 연장)
+	private String owner;
+	private Timestamp leaseUntil;
+	private Timestamp createdAt;
+	private Timestamp updatedAt;
+}
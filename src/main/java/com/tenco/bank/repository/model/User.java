@@ -1,6 +1,6 @@
 package com.tenco.bank.repository.model;
 
-import java.security.Timestamp;
+import java.sql.Timestamp;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -0,0 +1,57 @@
+package com.tenco.bank.service;
+
+import java.sql.Timestamp;
+
+import org.springframework.stereotype.Service;
+
+import com.tenco.bank.concurrent.ParallelReads;
+import com.tenco.bank.dto.CursorPage;
+import com.tenco.bank.dto.PageResult;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.repository.model.HistoryAccount;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 화면/API 용 조회 창구 - 서로 독립적인 AccountService 조회를 ParallelReads 로 동시에 실행한다.
+ * 소유자 확인(계좌 정보 캐시)을 먼저 하고, 통과한 요청만 DB 조회를 실행한다.
+ * 남의 계좌를 요청해도 잔액, 거래 내역 조회가 실행되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountReadFacade {
+
+	private final AccountService accountService;
+	private final ParallelReads parallelReads;
+
+	/**
+	 * 본인 계좌 거래 내역 (현재 잔액을 포함한 계좌 정보 + 전체 건수 + 거래 내역 페이지)
+	 * 세 조회를 동시에 실행한다. 전체 건수는 선택 조회 (실패하면 -1)
+	 */
+	public PageResult<Account, HistoryAccount> readOwnedHistory(Integer principalId, String type, Integer accountId, String cursor, int size) {
+		checkOwner(principalId, accountId);
+		ParallelReads.Batch batch = parallelReads.begin();
+		ParallelReads.Part<Account> account = batch.add("account", () -> accountService.readAccountById(accountId));
+		ParallelReads.Part<Integer> totalRecords = batch.addOptional("historyCount", () -> accountService.countHistoryByAccountIdAndType(type, accountId), -1);
+		ParallelReads.Part<CursorPage<HistoryAccount>> history = batch.add("history",
+				() -> accountService.readHistoryByAccountId(type, accountId, cursor, size));
+		batch.await();
+		return new PageResult<>(account.get(), totalRecords.get(), history.get());
+	}
+
+	/**
+	 * 본인 계좌 과거 시점 잔액 (스냅샷 + 이후 거래 합계)
+	 * 조회 하나뿐이라 동시 실행 없이 ParallelReads 제한 시간만 적용한다.
+	 */
+	public Long readOwnedBalanceAt(Integer principalId, Integer accountId, Timestamp at) {
+		checkOwner(principalId, accountId);
+		ParallelReads.Batch batch = parallelReads.begin();
+		ParallelReads.Part<Long> balance = batch.add("balanceAt", () -> accountService.balanceAt(accountId, at));
+		batch.await();
+		return balance.get();
+	}
+
+	private void checkOwner(Integer principalId, Integer accountId) {
+		accountService.readAccountInfoById(accountId).checkOwner(principalId);
+	}
+}
@@ -1,37 +1,109 @@
 package com.tenco.bank.service;
 
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.tenco.bank.concurrent.OptimisticRetry;
+import com.tenco.bank.datasource.ReadRouting;
+import com.tenco.bank.dto.BatchTransferResult;
+import com.tenco.bank.dto.CursorPage;
 import com.tenco.bank.dto.DepositDTO;
+import com.tenco.bank.dto.PageResult;
+import com.tenco.bank.dto.PageRows;
 import com.tenco.bank.dto.SaveDTO;
 import com.tenco.bank.dto.TransferDTO;
 import com.tenco.bank.dto.WithdrawalDTO;
 import com.tenco.bank.handler.exception.DataDeliveryException;
 import com.tenco.bank.handler.exception.RedirectException;
+import com.tenco.bank.history.HistoryWriter;
+import com.tenco.bank.idempotency.IdempotencyStore;
+import com.tenco.bank.ledger.LedgerEngine;
+import com.tenco.bank.ledger.LedgerResult;
+import com.tenco.bank.repository.cache.AccountCache;
+import com.tenco.bank.repository.interfaces.AccountEntryRepository;
 import com.tenco.bank.repository.interfaces.AccountRepository;
-import com.tenco.bank.repository.interfaces.HistoryRepository;
+import com.tenco.bank.repository.interfaces.BalanceSnapshotRepository;
+import com.tenco.bank.repository.interfaces.CounterRepository;
 import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.repository.model.AccountEntry;
+import com.tenco.bank.repository.model.BalanceSnapshot;
 import com.tenco.bank.repository.model.History;
 import com.tenco.bank.repository.model.HistoryAccount;
+import com.tenco.bank.repository.model.IdempotencyKey;
 import com.tenco.bank.utils.Define;
+import com.tenco.bank.utils.PageCursor;
 
+import io.micrometer.core.annotation.Timed;
+
+@Timed(value = "bank.service", histogram = true) // 메서드별 실행 시간 (class, method 태그)
 @Service
 public class AccountService {
 
 	private final AccountRepository accountRepository;
-	private final HistoryRepository historyRepository;
+	private final AccountEntryRepository accountEntryRepository;
+	private final CounterRepository counterRepository;
+	private final BalanceSnapshotRepository balanceSnapshotRepository;
+	private final HistoryWriter historyWriter;
+	private final AccountCache accountCache;
+	private final IdempotencyStore idempotencyStore;
+	// 입금, 출금, 이체 트랜잭션 (호출자 트랜잭션이 있으면 참여 - 대량 이체 파일의 청크 트랜잭션)
+	private final TransactionTemplate transactionTemplate;
+	// OPTIMISTIC 모드 재시도용 - 시도마다 항상 새 트랜잭션 (REQUIRES_NEW)
+	private final TransactionTemplate newTransactionTemplate;
+	private final OptimisticRetry optimisticRetry;
+	// 잔액 변경 방식 (LEGACY, ATOMIC, OPTIMISTIC, LEDGER)
+	private MoneyMovementMode moneyMovementMode;
+	// LEDGER 모드일 때만 존재
+	private final LedgerEngine ledgerEngine;
+	// 원장 엔진 처리(저장 완료) 최대 대기 시간
+	private final long ledgerTimeoutMillis;
 
 	@Autowired // 생략 가능
-	public AccountService(AccountRepository accountRepository, HistoryRepository historyRepository) {
+	public AccountService(AccountRepository accountRepository, AccountEntryRepository accountEntryRepository, CounterRepository counterRepository,
+			BalanceSnapshotRepository balanceSnapshotRepository, HistoryWriter historyWriter, AccountCache accountCache, IdempotencyStore idempotencyStore,
+			PlatformTransactionManager transactionManager, OptimisticRetry optimisticRetry, @Value("${bank.money.mode:ATOMIC}") MoneyMovementMode moneyMovementMode,
+			ObjectProvider<LedgerEngine> ledgerEngineProvider, @Value("${bank.ledger.timeout-ms:3000}") long ledgerTimeoutMillis) {
 		this.accountRepository = accountRepository;
-		this.historyRepository = historyRepository;
+		this.accountEntryRepository = accountEntryRepository;
+		this.counterRepository = counterRepository;
+		this.balanceSnapshotRepository = balanceSnapshotRepository;
+		this.historyWriter = historyWriter;
+		this.accountCache = accountCache;
+		this.idempotencyStore = idempotencyStore;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.optimisticRetry = optimisticRetry;
+		this.moneyMovementMode = moneyMovementMode;
+		this.ledgerEngine = ledgerEngineProvider.getIfAvailable();
+		this.ledgerTimeoutMillis = ledgerTimeoutMillis;
 	}
 
 	/**
@@ -43,7 +115,14 @@ public class AccountService {
 	public void createAccount(SaveDTO dto, Integer principalId) {
 		int result = 0;
 		try {
-			result = accountRepository.insert(dto.toAccount(principalId));
+			Account account = dto.toAccount(principalId);
+			result = accountRepository.insert(account);
+			// 카운터도 같은 트랜잭션에서 생성, 증가
+			counterRepository.insertAccountStat(account.getId());
+			if (counterRepository.increaseUserAccountCount(principalId) == 0) {
+				counterRepository.insertUserStat(principalId);
+				counterRepository.increaseUserAccountCount(principalId);
+			}
 		} catch (DataAccessException e) {
 			throw new DataDeliveryException("잘못된 처리입니다", HttpStatus.INTERNAL_SERVER_ERROR);
 		} catch (Exception e) {
@@ -54,19 +133,53 @@ public class AccountService {
 		}
 	}
 
-	@Transactional
-	public List<Account> readAccountListByUserId(Integer userId, int page, int size) {
+	/**
+	 * 계좌 목록 조회 (키셋 페이징)
+	 * @param userId
+	 * @param cursor 이전/다음 페이지 커서 토큰 (첫 페이지는 null)
+	 * @param size
+	 * @return
+	 */
+	@Transactional(readOnly = true)
+	public CursorPage<Account> readAccountListByUserId(Integer userId, String cursor, int size) {
+		PageCursor pageCursor = PageCursor.decode(cursor);
 		List<Account> accountListEntity = null;
-		int limit = size;
-		int offset = (page - 1) * size;
 		try {
-			accountListEntity = accountRepository.findByUserId(userId, limit, offset);
+			// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+			accountListEntity = accountRepository.findByUserId(userId, pageCursor, size + 1);
+			if (CursorPage.reachedStart(accountListEntity, size, pageCursor)) {
+				pageCursor = null;
+				accountListEntity = accountRepository.findByUserId(userId, null, size + 1);
+			}
 		} catch (DataAccessException e) {
 			throw new DataDeliveryException("잘못된 처리 입니다.", HttpStatus.INTERNAL_SERVER_ERROR);
 		} catch (Exception e) {
 			throw new RedirectException("알 수 없는 오류", HttpStatus.SERVICE_UNAVAILABLE);
 		}
-		return accountListEntity;
+		return CursorPage.of(accountListEntity, size, pageCursor, Account::getCreatedAt, Account::getId);
+	}
+
+	/**
+	 * 계좌 목록 화면 (전체 건수 + 키셋 페이지를 한 번의 쿼리로 조회)
+	 * 카운터 행이 없을 때만 count(*) 를 추가로 실행한다.
+	 * @param userId
+	 * @param cursor 이전/다음 페이지 커서 토큰 (첫 페이지는 null)
+	 * @param size
+	 * @return
+	 */
+	@Transactional(readOnly = true)
+	public PageResult<Void, Account> readAccountPage(Integer userId, String cursor, int size) {
+		PageCursor pageCursor = PageCursor.decode(cursor);
+		PageRows<Void, Account> rows = accountRepository.findPageByUserId(userId, pageCursor, size + 1);
+		if (rows != null && CursorPage.reachedStart(rows.getRows(), size, pageCursor)) {
+			pageCursor = null;
+			rows = accountRepository.findPageByUserId(userId, null, size + 1);
+		}
+		if (rows == null) {
+			return new PageResult<>(null, 0, CursorPage.of(List.of(), size, pageCursor, Account::getCreatedAt, Account::getId));
+		}
+		int totalRecords = rows.getTotalRecords() < 0 ? accountRepository.countAccountByuserId(userId) : rows.getTotalRecords();
+		return new PageResult<>(null, totalRecords, CursorPage.of(rows.getRows(), size, pageCursor, Account::getCreatedAt, Account::getId));
 	}
 
 	// 한번에 모든 기능을 생각 힘듬 
@@ -77,10 +190,20 @@ public class AccountService {
 	// 5. 출금 처리      --        update 
 	// 6. 거래 내역 등록 --        insert(history) 
 	// 7. 트랜잭션 처리 
-	@Transactional
-	public void updateAccountWithdraw(WithdrawalDTO dto, Integer principalId) {
+	// 요청 키가 있으면 이미 처리된 요청인지 먼저 확인 (재요청이면 계좌를 건드리지 않고 원래 결과 반환)
+	public Long updateAccountWithdraw(WithdrawalDTO dto, Integer principalId) {
+		return inMoneyTransaction(() -> withdraw(dto, principalId));
+	}
+
+	private Long withdraw(WithdrawalDTO dto, Integer principalId) {
+		String fingerprint = IdempotencyStore.fingerprint("W", dto.getWAccountNumber(), null, dto.getAmount());
+		// LEDGER 모드는 요청 키를 원장 저장 배치에서 저장한다. (executeOnLedger)
+		IdempotencyKey idempotencyKey = isLedgerMode() ? null : idempotencyStore.begin(principalId, dto.getIdempotencyKey(), fingerprint);
+		if (idempotencyKey != null && idempotencyKey.getBalance() != null) {
+			return idempotencyKey.getBalance();
+		}
 		// 1. 
-		Account accoutEntity = accountRepository.findByNumber(dto.getWAccountNumber());
+		Account accoutEntity = findAccountByNumber(dto.getWAccountNumber());
 		if (accoutEntity == null) {
 			throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
 		}
@@ -89,13 +212,13 @@ public class AccountService {
 		accoutEntity.checkOwner(principalId);
 		// 3
 		accoutEntity.checkPassword(dto.getWAccountPassword());
-		// 4 
-		accoutEntity.checkBalance(dto.getAmount());
-		// 5 
-		// accoutEntity 객체의 잔액을 변경하고 업데이트 처리해야 한다. 
-		accoutEntity.withdraw(dto.getAmount());
-		// update 처리 
-		accountRepository.updateById(accoutEntity);
+		// 원장 엔진 사용시 잔액 확인, 차감, 거래 내역 등록을 엔진이 처리
+		if (isLedgerMode()) {
+			return executeOnLedger(principalId, dto.getIdempotencyKey(), fingerprint, key -> ledgerEngine.withdraw(accoutEntity.getId(), dto.getAmount(), key),
+					LedgerResult::wBalance);
+		}
+		// 4, 5
+		withdrawBalance(accoutEntity, dto.getAmount());
 		// 6 - 거래 내역 등록 
 		History history = new History();
 		history.setAmount(dto.getAmount());
@@ -103,11 +226,11 @@ public class AccountService {
 		history.setDBalance(null);
 		history.setWAccountId(accoutEntity.getId());
 		history.setDAccountId(null);
+		history.setWAccountNumber(accoutEntity.getNumber());
 
-		int rowResultCount = historyRepository.insert(history);
-		if (rowResultCount != 1) {
-			throw new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.INTERNAL_SERVER_ERROR);
-		}
+		historyWriter.write(history);
+		idempotencyStore.complete(idempotencyKey, accoutEntity.getBalance());
+		return accoutEntity.getBalance();
 	}
 
 	// 한번에 모든 기능을 생각 힘듬 
@@ -115,30 +238,42 @@ public class AccountService {
 	// 2. 입금 처리      --        update 
 	// 3. 거래 내역 등록 --        insert(history) 
 	// 4. 트랜잭션 처리 
-	public void updateAccountDeposit(DepositDTO dto, Integer principalId) {
+	public Long updateAccountDeposit(DepositDTO dto, Integer principalId) {
+		return inMoneyTransaction(() -> deposit(dto, principalId));
+	}
+
+	private Long deposit(DepositDTO dto, Integer principalId) {
+		String fingerprint = IdempotencyStore.fingerprint("D", null, dto.getDAccountNumber(), dto.getAmount());
+		IdempotencyKey idempotencyKey = isLedgerMode() ? null : idempotencyStore.begin(principalId, dto.getIdempotencyKey(), fingerprint);
+		if (idempotencyKey != null && idempotencyKey.getBalance() != null) {
+			return idempotencyKey.getBalance();
+		}
 		// 1. 
-		Account accoutEntity = accountRepository.findByNumber(dto.getDAccountNumber());
+		Account accoutEntity = findAccountByNumber(dto.getDAccountNumber());
 		if (accoutEntity == null) {
 			throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
 		}
 
-		// accoutEntity 객체의 잔액을 변경하고 업데이트 처리해야 한다. 
-		accoutEntity.deposit(dto.getAmount());
-		// update 처리 
-		accountRepository.updateById(accoutEntity);
+		if (isLedgerMode()) {
+			return executeOnLedger(principalId, dto.getIdempotencyKey(), fingerprint, key -> ledgerEngine.deposit(accoutEntity.getId(), dto.getAmount(), key),
+					LedgerResult::dBalance);
+		}
+
+		// 2
+		depositBalance(accoutEntity, dto.getAmount());
 
-		// 6 - 거래 내역 등록 
+		// 3 - 거래 내역 등록 
 		History history = new History();
 		history.setAmount(dto.getAmount());
 		history.setWBalance(null);
 		history.setDBalance(accoutEntity.getBalance());
 		history.setWAccountId(null);
 		history.setDAccountId(accoutEntity.getId());
+		history.setDAccountNumber(accoutEntity.getNumber());
 
-		int rowResultCount = historyRepository.insert(history);
-		if (rowResultCount != 1) {
-			throw new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.INTERNAL_SERVER_ERROR);
-		}
+		historyWriter.write(history);
+		idempotencyStore.complete(idempotencyKey, accoutEntity.getBalance());
+		return accoutEntity.getBalance();
 	}
 
 	// 이체 기능 만들기
@@ -152,15 +287,27 @@ public class AccountService {
 	// 8. 출금 계좌 객체 상태값 변경 처리 (잔액-거래금액)
 	// 9. 출금 계좌 -- update 처리
 	// 10. 거래 내역 등록 처리
-	@Transactional
-	public void updateAccountTransfer(TransferDTO dto, Integer principalId) {
+	public Long updateAccountTransfer(TransferDTO dto, Integer principalId) {
+		return inMoneyTransaction(() -> transfer(dto, principalId));
+	}
+
+	private Long transfer(TransferDTO dto, Integer principalId) {
+		// 같은 계좌로의 이체는 거래 항목이 한 계좌에 두 번(출금, 입금) 남으므로 받지 않는다.
+		if (dto.getWAccountNumber().equals(dto.getDAccountNumber())) {
+			throw new DataDeliveryException(Define.SAME_ACCOUNT_TRANSFER, HttpStatus.BAD_REQUEST);
+		}
+		String fingerprint = IdempotencyStore.fingerprint("T", dto.getWAccountNumber(), dto.getDAccountNumber(), dto.getAmount());
+		IdempotencyKey idempotencyKey = isLedgerMode() ? null : idempotencyStore.begin(principalId, dto.getIdempotencyKey(), fingerprint);
+		if (idempotencyKey != null && idempotencyKey.getBalance() != null) {
+			return idempotencyKey.getBalance();
+		}
 		// 1
-		Account wAccoutEntity = accountRepository.findByNumber(dto.getWAccountNumber());
+		Account wAccoutEntity = findAccountByNumber(dto.getWAccountNumber());
 		if (wAccoutEntity == null) {
 			throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
 		}
 		// 2
-		Account dAccoutEntity = accountRepository.findByNumber(dto.getDAccountNumber());
+		Account dAccoutEntity = findAccountByNumber(dto.getDAccountNumber());
 		if (dAccoutEntity == null) {
 			throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
 		}
@@ -170,20 +317,20 @@ public class AccountService {
 		// 4
 		wAccoutEntity.checkPassword(dto.getPassword());
 
-		// 5
-		wAccoutEntity.checkBalance(dto.getAmount());
-
-		// 6
-		dAccoutEntity.deposit(dto.getAmount());
-
-		// 7
-		accountRepository.updateById(dAccoutEntity);
-
-		// 8
-		wAccoutEntity.withdraw(dto.getAmount());
+		if (isLedgerMode()) {
+			return executeOnLedger(principalId, dto.getIdempotencyKey(), fingerprint,
+					key -> ledgerEngine.transfer(wAccoutEntity.getId(), dAccoutEntity.getId(), dto.getAmount(), key), LedgerResult::wBalance);
+		}
 
-		// 9
-		accountRepository.updateById(wAccoutEntity);
+		// 5 ~ 9
+		// 두 계좌를 항상 id 오름차순으로 갱신(행 잠금) 해야 반대 방향 이체끼리 데드락이 발생하지 않는다.
+		if (wAccoutEntity.getId() <= dAccoutEntity.getId()) {
+			withdrawBalance(wAccoutEntity, dto.getAmount());
+			depositBalance(dAccoutEntity, dto.getAmount());
+		} else {
+			depositBalance(dAccoutEntity, dto.getAmount());
+			withdrawBalance(wAccoutEntity, dto.getAmount());
+		}
 
 		// 10
 		History history = new History();
@@ -192,20 +339,332 @@ public class AccountService {
 		history.setDBalance(dAccoutEntity.getBalance());
 		history.setWAccountId(wAccoutEntity.getId());
 		history.setDAccountId(dAccoutEntity.getId());
+		history.setWAccountNumber(wAccoutEntity.getNumber());
+		history.setDAccountNumber(dAccoutEntity.getNumber());
 
-		int rowResultCount = historyRepository.insert(history);
-		if (rowResultCount != 1) {
+		historyWriter.write(history);
+		idempotencyStore.complete(idempotencyKey, wAccoutEntity.getBalance());
+		return wAccoutEntity.getBalance();
+	}
+
+	/**
+	 * 입금, 출금, 이체 트랜잭션 실행
+	 * OPTIMISTIC 모드는 버전 충돌, 잠금 대기 실패(데드락 포함)시 트랜잭션을 롤백하고
+	 * 지터 백오프 후 처음(요청 키 확인, 계좌 조회)부터 다시 실행한다.
+	 * 재시도마다 새 트랜잭션이어야 최신 잔액, 버전을 읽을 수 있으므로 @Transactional 대신 REQUIRES_NEW TransactionTemplate 을 사용한다.
+	 * (호출자 트랜잭션에 참여하면 롤백 표시된 트랜잭션에서 다시 시도하게 된다)
+	 * LEDGER 모드는 원장 저장 배치가 커밋하므로 트랜잭션 없이 실행한다. (엔진 대기 중에 커넥션을 잡지 않는다)
+	 * @param work
+	 * @return 거래 후 잔액
+	 */
+	private Long inMoneyTransaction(Supplier<Long> work) {
+		if (isLedgerMode()) {
+			return work.get();
+		}
+		if (moneyMovementMode == MoneyMovementMode.OPTIMISTIC) {
+			return optimisticRetry.execute(() -> newTransactionTemplate.execute(status -> work.get()));
+		}
+		return transactionTemplate.execute(status -> work.get());
+	}
+
+	/**
+	 * 일괄 이체 (항목별 결과 반환)
+	 * LEDGER 모드는 트랜잭션 없이 원장 엔진에 넘기고 결과만 기다린다. (대기 중에 커넥션을 잡지 않는다)
+	 * 그 외에는 하나의 트랜잭션에서 (호출자 트랜잭션이 있으면 참여)
+	 * 1. 관련 계좌 id 를 잠금 없이 조회한 후, id 순서로 한 번에 잠금 조회 (select ... for update)
+	 * 2. 항목 순서대로 메모리에서 검증, 잔액 계산 (실패 항목은 결과만 남기고 건너뜀)
+	 * 3. 변경된 잔액을 한 번에 update, 거래 내역 일괄 등록
+	 * 항목 수와 관계없이 DB 왕복 횟수가 일정하다.
+	 * @param items 이체 요청 목록
+	 * @param principalId
+	 * @return 요청 순서와 같은 순서의 결과 목록
+	 */
+	public List<BatchTransferResult> transferBatch(List<TransferDTO> items, Integer principalId) {
+		if (isLedgerMode()) {
+			return transferBatchOnLedger(items, principalId);
+		}
+		return transactionTemplate.execute(status -> transferBatchLocked(items, principalId));
+	}
+
+	private List<BatchTransferResult> transferBatchLocked(List<TransferDTO> items, Integer principalId) {
+		// 1
+		Set<String> numbers = new HashSet<>();
+		for (TransferDTO item : items) {
+			if (item.getWAccountNumber() != null) {
+				numbers.add(item.getWAccountNumber());
+			}
+			if (item.getDAccountNumber() != null) {
+				numbers.add(item.getDAccountNumber());
+			}
+		}
+		Map<String, Account> accounts = new HashMap<>();
+		List<Integer> ids = numbers.isEmpty() ? List.of() : accountRepository.findIdsByNumbers(numbers);
+		if (ids.isEmpty() == false) {
+			for (Account account : accountRepository.findByIdsForUpdate(ids)) {
+				accounts.put(account.getNumber(), account);
+			}
+		}
+
+		// 2
+		List<BatchTransferResult> results = new ArrayList<>(items.size());
+		Map<Integer, Account> changedAccounts = new TreeMap<>();
+		List<History> historyList = new ArrayList<>();
+		for (int i = 0; i < items.size(); i++) {
+			TransferDTO item = items.get(i);
+			try {
+				validateTransfer(item);
+				Account wAccount = accounts.get(item.getWAccountNumber());
+				Account dAccount = accounts.get(item.getDAccountNumber());
+				if (wAccount == null || dAccount == null) {
+					throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
+				}
+				wAccount.checkOwner(principalId);
+				wAccount.checkPassword(item.getPassword());
+				wAccount.checkBalance(item.getAmount());
+				wAccount.withdraw(item.getAmount());
+				dAccount.deposit(item.getAmount());
+				changedAccounts.put(wAccount.getId(), wAccount);
+				changedAccounts.put(dAccount.getId(), dAccount);
+
+				History history = new History();
+				history.setAmount(item.getAmount());
+				history.setWBalance(wAccount.getBalance());
+				history.setDBalance(dAccount.getBalance());
+				history.setWAccountId(wAccount.getId());
+				history.setDAccountId(dAccount.getId());
+				history.setWAccountNumber(wAccount.getNumber());
+				history.setDAccountNumber(dAccount.getNumber());
+				historyList.add(history);
+				results.add(BatchTransferResult.success(i, wAccount.getBalance()));
+			} catch (DataDeliveryException e) {
+				results.add(BatchTransferResult.failure(i, e.getMessage()));
+			}
+		}
+
+		// 3
+		if (changedAccounts.isEmpty() == false) {
+			accountRepository.updateBalances(new ArrayList<>(changedAccounts.values()));
+			historyWriter.writeAll(historyList);
+		}
+		return results;
+	}
+
+	// 원장 엔진은 계좌별 단일 스레드로 처리하므로 항목을 모두 넘긴 뒤 결과를 모은다.
+	private List<BatchTransferResult> transferBatchOnLedger(List<TransferDTO> items, Integer principalId) {
+		List<CompletableFuture<LedgerResult>> futures = new ArrayList<>(items.size());
+		List<BatchTransferResult> results = new ArrayList<>(items.size());
+		for (TransferDTO item : items) {
+			CompletableFuture<LedgerResult> future;
+			try {
+				validateTransfer(item);
+				Account wAccount = findAccountByNumber(item.getWAccountNumber());
+				Account dAccount = findAccountByNumber(item.getDAccountNumber());
+				if (wAccount == null || dAccount == null) {
+					throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
+				}
+				wAccount.checkOwner(principalId);
+				wAccount.checkPassword(item.getPassword());
+				future = ledgerEngine.transfer(wAccount.getId(), dAccount.getId(), item.getAmount());
+			} catch (DataDeliveryException e) {
+				future = CompletableFuture.failedFuture(e);
+			}
+			futures.add(future);
+		}
+		for (int i = 0; i < futures.size(); i++) {
+			try {
+				results.add(BatchTransferResult.success(i, awaitLedger(futures.get(i)).wBalance()));
+			} catch (DataDeliveryException e) {
+				results.add(BatchTransferResult.failure(i, e.getMessage()));
+			}
+		}
+		if (results.stream().anyMatch(BatchTransferResult::isSuccess)) {
+			ReadRouting.recordWrite();
+		}
+		return results;
+	}
+
+	// 일괄 이체 항목 유효성 검사 (단건은 컨트롤러에서 검사)
+	private void validateTransfer(TransferDTO item) {
+		if (item.getAmount() == null) {
+			throw new DataDeliveryException(Define.ENTER_YOUR_BALANCE, HttpStatus.BAD_REQUEST);
+		}
+		if (item.getAmount().longValue() <= 0) {
+			throw new DataDeliveryException(Define.W_BALANCE_VALUE, HttpStatus.BAD_REQUEST);
+		}
+		if (item.getWAccountNumber() == null || item.getDAccountNumber() == null) {
+			throw new DataDeliveryException(Define.ENTER_YOUR_ACCOUNT_NUMBER, HttpStatus.BAD_REQUEST);
+		}
+		if (item.getWAccountNumber().equals(item.getDAccountNumber())) {
+			throw new DataDeliveryException(Define.SAME_ACCOUNT_TRANSFER, HttpStatus.BAD_REQUEST);
+		}
+		if (item.getPassword() == null || item.getPassword().isEmpty()) {
+			throw new DataDeliveryException(Define.ENTER_YOUR_PASSWORD, HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	/**
+	 * 계좌 번호로 조회
+	 * 계좌 정보(소유자, 비밀번호)는 캐시에서 읽는다. (캐시 값에는 잔액이 없다)
+	 * LEGACY, OPTIMISTIC 모드는 조회한 잔액(버전)으로 계산하기 때문에 항상 DB 에서 읽는다.
+	 * (ATOMIC 은 조건부 update 후 잔액을 다시 읽고, LEDGER 는 엔진이 잔액을 관리)
+	 * @param number
+	 * @return 없으면 null
+	 */
+	private Account findAccountByNumber(String number) {
+		if (moneyMovementMode == MoneyMovementMode.LEGACY || moneyMovementMode == MoneyMovementMode.OPTIMISTIC) {
+			return accountRepository.findByNumber(number);
+		}
+		return accountCache.getByNumber(number, accountRepository::findByNumber);
+	}
+
+	/**
+	 * LEDGER 모드 여부
+	 * 원장 엔진은 호출자 트랜잭션에 참여하지 않으므로 이체와 함께 커밋되어야 하는 작업(대량 이체 체크포인트 등)은 이 모드에서 사용할 수 없다.
+	 */
+	public boolean isLedgerMode() {
+		return moneyMovementMode == MoneyMovementMode.LEDGER && ledgerEngine != null;
+	}
+
+	/**
+	 * 원장 엔진 처리 (LEDGER 모드 출금, 입금, 이체)
+	 * 요청 키 행은 따로 저장하지 않고 엔진에 넘겨 거래 내역, 잔액 증감과 같은 저장 배치(트랜잭션)에서 저장한다.
+	 * 그래서 이체는 저장되고 키는 남지 않는 경우가 없다.
+	 * 저장 배치에서 키가 중복되면 (먼저 저장된 같은 키) 이 거래는 되돌려지고 저장된 결과를 반환한다.
+	 * @param principalId
+	 * @param key 요청 키 (없으면 중복 확인 없음)
+	 * @param fingerprint
+	 * @param command 엔진 호출 (저장할 요청 키, 없으면 null)
+	 * @param balanceOf 돌려줄 잔액
+	 * @return 거래 후 잔액
+	 */
+	private Long executeOnLedger(Integer principalId, String key, String fingerprint, Function<IdempotencyKey, CompletableFuture<LedgerResult>> command,
+			Function<LedgerResult, Long> balanceOf) {
+		IdempotencyKey idempotencyKey = idempotencyStore.prepare(principalId, key, fingerprint);
+		if (idempotencyKey != null && idempotencyKey.getBalance() != null) {
+			return idempotencyKey.getBalance();
+		}
+		try {
+			Long balance = balanceOf.apply(awaitLedger(command.apply(idempotencyKey)));
+			idempotencyStore.persisted(idempotencyKey);
+			// 원장 저장 스레드에서 커밋되었으므로 요청 유저의 쓰기 시각을 직접 기록 (replica 사용시)
+			ReadRouting.recordWrite();
+			return balance;
+		} catch (DuplicateKeyException e) {
+			return idempotencyStore.replayStored(idempotencyKey).getBalance();
+		} catch (RuntimeException e) {
+			idempotencyStore.release(idempotencyKey);
+			throw e;
+		}
+	}
+
+	/**
+	 * 원장 엔진 처리 결과 대기 (저장 완료까지, 최대 bank.ledger.timeout-ms)
+	 * 엔진에서 발생한 DataDeliveryException(잔액 부족 등)은 그대로 던진다.
+	 * 시간 초과는 503 - 엔진에서는 나중에 처리될 수 있으므로 요청 키로 재요청해야 중복 처리되지 않는다.
+	 * @param future
+	 * @return 거래 후 잔액
+	 */
+	private LedgerResult awaitLedger(CompletableFuture<LedgerResult> future) {
+		try {
+			return future.orTimeout(ledgerTimeoutMillis, TimeUnit.MILLISECONDS).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof DataDeliveryException dataDeliveryException) {
+				throw dataDeliveryException;
+			}
+			// 요청 키 중복 (executeOnLedger 에서 저장된 결과로 처리)
+			if (e.getCause() instanceof DuplicateKeyException duplicateKeyException) {
+				throw duplicateKeyException;
+			}
+			if (e.getCause() instanceof TimeoutException) {
+				throw new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.SERVICE_UNAVAILABLE);
+			}
 			throw new DataDeliveryException(Define.FAILED_PROCESSING, HttpStatus.INTERNAL_SERVER_ERROR);
 		}
 	}
 
+	/**
+	 * 출금 처리 (잔액 확인 + 차감)
+	 * ATOMIC 모드는 조건부 update 결과 행 수로 잔액 부족을 판단하고
+	 * 변경된 잔액을 다시 읽어 엔티티에 반영한다.
+	 * OPTIMISTIC 모드는 조회한 버전이 그대로일 때만 반영한다.
+	 * @param account
+	 * @param amount
+	 */
+	private void withdrawBalance(Account account, Long amount) {
+		if (moneyMovementMode == MoneyMovementMode.LEGACY) {
+			account.checkBalance(amount);
+			account.withdraw(amount);
+			accountRepository.updateById(account);
+			return;
+		}
+		if (moneyMovementMode == MoneyMovementMode.OPTIMISTIC) {
+			account.checkBalance(amount);
+			account.withdraw(amount);
+			updateBalanceWithVersion(account);
+			return;
+		}
+		int rowResultCount = accountRepository.withdrawById(account.getId(), amount);
+		if (rowResultCount != 1) {
+			throw new DataDeliveryException(Define.LACK_Of_BALANCE, HttpStatus.BAD_REQUEST);
+		}
+		account.setBalance(accountRepository.findBalanceById(account.getId()));
+	}
+
+	/**
+	 * 입금 처리
+	 * @param account
+	 * @param amount
+	 */
+	private void depositBalance(Account account, Long amount) {
+		if (moneyMovementMode == MoneyMovementMode.LEGACY) {
+			account.deposit(amount);
+			accountRepository.updateById(account);
+			return;
+		}
+		if (moneyMovementMode == MoneyMovementMode.OPTIMISTIC) {
+			account.deposit(amount);
+			updateBalanceWithVersion(account);
+			return;
+		}
+		int rowResultCount = accountRepository.depositById(account.getId(), amount);
+		if (rowResultCount != 1) {
+			throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
+		}
+		account.setBalance(accountRepository.findBalanceById(account.getId()));
+	}
+
+	/**
+	 * 버전 조건부 잔액 update (0 행이면 조회 이후 다른 거래가 먼저 변경한 것 - inMoneyTransaction 이 재시도)
+	 * @param account
+	 */
+	private void updateBalanceWithVersion(Account account) {
+		int rowResultCount = accountRepository.updateBalanceByIdAndVersion(account.getId(), account.getBalance(), account.getVersion());
+		if (rowResultCount != 1) {
+			throw new OptimisticLockingFailureException("account_tb id=" + account.getId() + " version=" + account.getVersion());
+		}
+		account.setVersion(account.getVersion() + 1);
+	}
+
 	/**
 	 * 단일 계좌 조회 기능
 	 * @param accountId (pk)
 	 * @return
 	 */
 	public Account readAccountById(Integer accountId) {
-		Account accountEntity = accountRepository.findByAccountId(accountId);
+		Account accountEntity = readAccountInfoById(accountId);
+		// 잔액은 캐시하지 않으므로 항상 DB 에서 읽는다.
+		accountEntity.setBalance(accountRepository.findBalanceById(accountId));
+		return accountEntity;
+	}
+
+	/**
+	 * 계좌 정보 조회 (번호, 소유자, 비밀번호 - 잔액 없음)
+	 * 캐시에서 읽으므로 소유자 확인에 사용한다.
+	 * @param accountId (pk)
+	 * @return balance 가 null 인 계좌
+	 */
+	public Account readAccountInfoById(Integer accountId) {
+		Account accountEntity = accountCache.getById(accountId, accountRepository::findByAccountId);
 		if (accountEntity == null) {
 			throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.INTERNAL_SERVER_ERROR);
 		}
@@ -213,27 +672,104 @@ public class AccountService {
 	}
 
 	/**
-	 * 단일 계조 거래 내역 조회
+	 * 단일 계조 거래 내역 조회 (키셋 페이징)
 	 * @param type = [all, deposit, withdrawal]
 	 * @param accountId (pk)
+	 * @param cursor 이전/다음 페이지 커서 토큰 (첫 페이지는 null)
+	 * @param size
 	 * @return 전체, 입금, 출금 거래내역(3가지 타입) 반환
 	 */
-	@Transactional
-	public List<HistoryAccount> readHistoryByAccountId(String type, Integer accountId, int page, int size) {
-		List<HistoryAccount> list = new ArrayList<>();
-		int limit = size;
-		int offset = (page - 1) * size;
-		list = historyRepository.findByAccountIdAndTypeOfHistory(type, accountId, limit, offset);
-		return list;
+	@Transactional(readOnly = true)
+	public CursorPage<HistoryAccount> readHistoryByAccountId(String type, Integer accountId, String cursor, int size) {
+		PageCursor pageCursor = PageCursor.decode(cursor);
+		List<HistoryAccount> list = accountEntryRepository.findByAccountIdAndType(type, accountId, pageCursor, size + 1);
+		if (CursorPage.reachedStart(list, size, pageCursor)) {
+			pageCursor = null;
+			list = accountEntryRepository.findByAccountIdAndType(type, accountId, null, size + 1);
+		}
+		return CursorPage.of(list, size, pageCursor, HistoryAccount::getCreatedAt, HistoryAccount::getId);
+	}
+
+	/**
+	 * 계좌 상세 화면 (계좌 정보 + 전체 건수 + 거래 내역 페이지를 한 번의 쿼리로 조회)
+	 * 카운터 행이 없을 때만 count(*) 를 추가로 실행한다.
+	 * @param type = [all, deposit, withdrawal]
+	 * @param accountId (pk)
+	 * @param cursor 이전/다음 페이지 커서 토큰 (첫 페이지는 null)
+	 * @param size
+	 * @return 헤더는 계좌 정보
+	 */
+	@Transactional(readOnly = true)
+	public PageResult<Account, HistoryAccount> readHistoryPage(String type, Integer accountId, String cursor, int size) {
+		PageCursor pageCursor = PageCursor.decode(cursor);
+		PageRows<Account, HistoryAccount> rows = accountEntryRepository.findPageByAccountIdAndType(type, accountId, pageCursor, size + 1);
+		if (rows != null && CursorPage.reachedStart(rows.getRows(), size, pageCursor)) {
+			pageCursor = null;
+			rows = accountEntryRepository.findPageByAccountIdAndType(type, accountId, null, size + 1);
+		}
+		if (rows == null) {
+			throw new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+		int totalRecords = rows.getTotalRecords() < 0 ? accountEntryRepository.countByAccountIdAndType(type, accountId) : rows.getTotalRecords();
+		return new PageResult<>(rows.getHeader(), totalRecords,
+				CursorPage.of(rows.getRows(), size, pageCursor, HistoryAccount::getCreatedAt, HistoryAccount::getId));
+	}
+
+	/**
+	 * 과거 시점 잔액 조회
+	 * 1. 기준일 전날까지의 가장 최근 일 마감 스냅샷을 찾는다.
+	 * 2. 스냅샷 이후 거래(스냅샷 날짜 ~ 기준 시각)의 입출금 합계만 더한다.
+	 * 스냅샷이 없으면(스냅샷 작업 이전 시점) 기준 시각 직전 거래의 거래 후 잔액을 사용한다.
+	 * @param accountId (pk)
+	 * @param at 기준 시각
+	 * @return 기준 시각의 잔액
+	 */
+	@Transactional(readOnly = true)
+	public Long balanceAt(Integer accountId, Timestamp at) {
+		Account account = readAccountById(accountId);
+		if (at.before(account.getCreatedAt())) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+		LocalDate date = at.toLocalDateTime().toLocalDate();
+		BalanceSnapshot snapshot = balanceSnapshotRepository.findLatestBefore(accountId, Date.valueOf(date));
+		if (snapshot != null) {
+			Timestamp from = Timestamp.valueOf(snapshot.getSnapshotDate().toLocalDate().atStartOfDay());
+			return snapshot.getBalance() + accountEntryRepository.sumAmountAfterSnapshot(accountId, snapshot.getHistoryId(), from, at);
+		}
+		AccountEntry last = accountEntryRepository.findLastAtOrBefore(accountId, at);
+		if (last != null) {
+			return last.getBalance();
+		}
+		// 첫 거래 이전 - 첫 거래 전 잔액으로 역산, 거래가 없으면 현재 잔액
+		AccountEntry first = accountEntryRepository.findFirstAfter(accountId, at);
+		if (first == null) {
+			return account.getBalance();
+		}
+		if (AccountEntry.DEPOSIT.equals(first.getDirection())) {
+			return first.getBalance() - first.getAmount();
+		}
+		return first.getBalance() + first.getAmount();
 	}
 
 	// 해당 유저의 계좌 전체 레코드 수를 반환하는 메서드
+	// 카운터 테이블 O(1) 조회, 카운터 행이 없을 때만 count(*)
+	@Transactional(readOnly = true)
 	public int countAccountByuserId(Integer userId) {
-		return accountRepository.countAccountByuserId(userId);
+		Integer count = counterRepository.findUserAccountCount(userId);
+		if (count == null) {
+			return accountRepository.countAccountByuserId(userId);
+		}
+		return count;
 	}
 
 	// 해당 계좌와 거래 유형에 따른 전체 레코드 수를 반환하는 메서드
+	// 카운터 테이블 O(1) 조회, 카운터 행이 없을 때만 count(*)
+	@Transactional(readOnly = true)
 	public int countHistoryByAccountIdAndType(String type, Integer accountId) {
-		return historyRepository.countByAccountIdAndType(type, accountId);
+		Integer count = counterRepository.findAccountStatCount(type, accountId);
+		if (count == null) {
+			return accountEntryRepository.countByAccountIdAndType(type, accountId);
+		}
+		return count;
 	}
 }
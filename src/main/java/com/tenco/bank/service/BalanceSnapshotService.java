@@ -0,0 +1,74 @@
+package com.tenco.bank.service;
+
+import java.sql.Timestamp;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tenco.bank.repository.interfaces.BalanceSnapshotRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일 마감 잔액 스냅샷 작업
+ * 워터마크(snapshot_watermark_tb) 이후의 거래내역만 batch-size 건씩 읽어 balance_snapshot_tb 에 반영한다.
+ * 청크마다 스냅샷 반영과 워터마크 갱신을 한 트랜잭션에서 처리하므로 중간에 중단되어도 다음 실행에서 이어서 처리한다.
+ * id 는 insert 시점에 발급되고 커밋은 그보다 늦을 수 있으므로 lag-seconds 보다 오래된 거래까지만 반영한다.
+ */
+@Slf4j
+@Service
+public class BalanceSnapshotService {
+
+	private final BalanceSnapshotRepository balanceSnapshotRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final long lagMillis;
+
+	public BalanceSnapshotService(BalanceSnapshotRepository balanceSnapshotRepository, PlatformTransactionManager transactionManager,
+			@Value("${bank.snapshot.batch-size:10000}") int batchSize, @Value("${bank.snapshot.lag-seconds:60}") long lagSeconds) {
+		this.balanceSnapshotRepository = balanceSnapshotRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.lagMillis = lagSeconds * 1000;
+	}
+
+	@Scheduled(cron = "${bank.snapshot.cron:0 */10 * * * *}")
+	public void scheduledRun() {
+		int chunks = run(new Timestamp(System.currentTimeMillis() - lagMillis));
+		if (chunks > 0) {
+			log.info("잔액 스냅샷 반영 완료 ({}개 청크)", chunks);
+		}
+	}
+
+	/**
+	 * before 이전에 생성된 거래내역까지 스냅샷 반영
+	 * @param before
+	 * @return 처리한 청크 수
+	 */
+	public int run(Timestamp before) {
+		Integer lastHistoryId = balanceSnapshotRepository.findLastHistoryIdBefore(balanceSnapshotRepository.findWatermark(), before);
+		if (lastHistoryId == null) {
+			return 0;
+		}
+		int chunks = 0;
+		while (Boolean.TRUE.equals(transactionTemplate.execute(status -> applyNextChunk(lastHistoryId)))) {
+			chunks++;
+		}
+		return chunks;
+	}
+
+	// 다음 청크 반영 - 더 반영할 거래가 없으면 false
+	private boolean applyNextChunk(Integer lastHistoryId) {
+		int watermark = balanceSnapshotRepository.findWatermarkForUpdate();
+		if (watermark >= lastHistoryId) {
+			return false;
+		}
+		int toId = (int) Math.min((long) watermark + batchSize, lastHistoryId);
+		balanceSnapshotRepository.upsertRange(watermark, toId);
+		balanceSnapshotRepository.updateWatermark(toId);
+		return true;
+	}
+}
@@ -0,0 +1,63 @@
+package com.tenco.bank.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tenco.bank.repository.interfaces.CounterRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카운터 복구 작업
+ * 증분으로 관리되는 카운터가 어긋났을 때 원본 테이블(account_entry_tb, account_tb)에서 다시 계산한다.
+ * 계좌 id, 유저 id 순서로 batch-size 개씩 나누어 청크마다 짧은 트랜잭션으로 처리하므로
+ * 전체 테이블을 한 트랜잭션에서 잠그지 않고, 중간에 실패해도 이미 끝난 청크는 반영된다.
+ */
+@Slf4j
+@Service
+public class CounterRepairService {
+
+	private final CounterRepository counterRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+
+	public CounterRepairService(CounterRepository counterRepository, PlatformTransactionManager transactionManager,
+			@Value("${bank.counter.repair-batch-size:1000}") int batchSize) {
+		this.counterRepository = counterRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(cron = "${bank.counter.repair-cron:0 0 4 * * *}")
+	public void rebuildCounters() {
+		int accountStats = 0;
+		int accountChunks = 0;
+		Integer toId;
+		for (int afterId = 0; (toId = counterRepository.findAccountIdChunkEnd(afterId, batchSize)) != null; afterId = toId) {
+			int from = afterId;
+			int to = toId;
+			accountStats += transactionTemplate.execute(status -> {
+				int inserted = counterRepository.insertMissingAccountStats(from, to);
+				counterRepository.rebuildAccountStats(from, to);
+				return inserted;
+			});
+			accountChunks++;
+		}
+		int userStats = 0;
+		int userChunks = 0;
+		for (int afterId = 0; (toId = counterRepository.findUserIdChunkEnd(afterId, batchSize)) != null; afterId = toId) {
+			int from = afterId;
+			int to = toId;
+			userStats += transactionTemplate.execute(status -> {
+				int inserted = counterRepository.insertMissingUserStats(from, to);
+				counterRepository.rebuildUserStats(from, to);
+				return inserted;
+			});
+			userChunks++;
+		}
+		log.info("카운터 재계산 완료 (계좌 {}개 청크, 유저 {}개 청크, 새로 생성된 계좌 카운터 {}, 유저 카운터 {})", accountChunks, userChunks, accountStats, userStats);
+	}
+}
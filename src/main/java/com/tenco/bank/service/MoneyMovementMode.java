@@ -0,0 +1,16 @@
+package com.tenco.bank.service;
+
+/**
+ * 입금, 출금, 이체 시 잔액 변경 방식
+ * application.yml - bank.money.mode 로 선택
+ */
+public enum MoneyMovementMode {
+	// 조회 --> 자바 객체에서 잔액 변경 --> 전체 컬럼 update (동시 요청시 갱신 손실 발생, 비교용)
+	LEGACY,
+	// 조건부 update 한 문장으로 잔액 검사 + 변경 (balance = balance - ? where id = ? and balance >= ?)
+	ATOMIC,
+	// 조회 --> 자바 객체에서 잔액 변경 --> 버전 조건부 update (충돌시 트랜잭션 전체를 지터 백오프 후 재시도, 행 잠금 대기 없음)
+	OPTIMISTIC,
+	// 메모리 원장 엔진 (샤드별 단일 쓰기 스레드, 비동기 배치 저장)
+	LEDGER
+}
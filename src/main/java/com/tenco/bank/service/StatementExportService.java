@@ -0,0 +1,104 @@
+package com.tenco.bank.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.tenco.bank.repository.interfaces.AccountEntryRepository;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.repository.model.AccountEntry;
+import com.tenco.bank.repository.model.HistoryAccount;
+import com.tenco.bank.utils.ValueFormats;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래명세서 CSV 내보내기
+ * 키셋 페이지(PAGE_SIZE 행)씩 읽어 바로 Writer 에 쓰므로 거래 건수와 관계없이 메모리 사용량이 일정하다.
+ * 페이지 조회마다 커넥션을 잠깐 쓰고 돌려주므로 느린 다운로드가 커넥션, 트랜잭션을 잡고 있지 않는다.
+ * (페이지 사이에 생긴 거래는 기간 안이면 뒤쪽 페이지에 포함될 수 있다)
+ */
+@Service
+@RequiredArgsConstructor
+public class StatementExportService {
+
+	// 한 번에 읽고 응답으로 내보내는 행 수
+	private static final int PAGE_SIZE = 1000;
+
+	private final AccountService accountService;
+	private final AccountEntryRepository accountEntryRepository;
+
+	/**
+	 * 내보낼 계좌 조회 (소유자만)
+	 * 응답을 쓰기 시작하면 오류 화면을 보낼 수 없으므로 exportCsv 전에 확인한다.
+	 * @param accountId
+	 * @param principalId
+	 * @return 계좌
+	 */
+	public Account readOwnedAccount(Integer accountId, Integer principalId) {
+		Account account = accountService.readAccountById(accountId);
+		account.checkOwner(principalId);
+		return account;
+	}
+
+	/**
+	 * @param account readOwnedAccount 로 확인한 계좌
+	 * @param from 시작일 (포함, null 이면 처음부터)
+	 * @param to 종료일 (포함, null 이면 끝까지)
+	 * @param writer 응답 Writer
+	 * @return 내보낸 행 수
+	 */
+	public long exportCsv(Account account, LocalDate from, LocalDate to, Writer writer) {
+		Timestamp fromTime = from == null ? null : Timestamp.valueOf(from.atStartOfDay());
+		Timestamp toTime = to == null ? null : Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+		long rows = 0;
+		try {
+			// BOM - 엑셀에서 한글이 깨지지 않도록
+			writer.write('\uFEFF');
+			writer.write("거래일시,구분,금액,거래후잔액,보낸계좌,받은계좌\n");
+			StringBuilder line = new StringBuilder(128);
+			Timestamp afterCreatedAt = null;
+			Integer afterId = null;
+			List<HistoryAccount> page;
+			do {
+				page = accountEntryRepository.findStatementPage(account.getId(), fromTime, toTime, afterCreatedAt, afterId, PAGE_SIZE);
+				for (HistoryAccount history : page) {
+					line.setLength(0);
+					ValueFormats.appendTimestamp(line, history.getCreatedAt()).append(',')
+							.append(AccountEntry.DEPOSIT.equals(history.getDirection()) ? "입금" : "출금").append(',')
+							.append(history.getAmount()).append(',')
+							.append(history.getBalance()).append(',')
+							.append(csv(history.getSender())).append(',')
+							.append(csv(history.getReceiver())).append('\n');
+					writer.append(line);
+				}
+				rows += page.size();
+				if (page.isEmpty() == false) {
+					HistoryAccount last = page.get(page.size() - 1);
+					afterCreatedAt = last.getCreatedAt();
+					afterId = last.getId();
+				}
+				writer.flush();
+			} while (page.size() == PAGE_SIZE);
+		} catch (IOException e) {
+			// 다운로드 중 연결 끊김 등
+			throw new UncheckedIOException(e);
+		}
+		return rows;
+	}
+
+	private String csv(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
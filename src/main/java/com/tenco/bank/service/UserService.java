@@ -3,19 +3,24 @@ package com.tenco.bank.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tenco.bank.auth.PasswordHasher;
 import com.tenco.bank.dto.SignInDTO;
 import com.tenco.bank.dto.SignUpDTO;
 import com.tenco.bank.handler.exception.DataDeliveryException;
 import com.tenco.bank.handler.exception.RedirectException;
+import com.tenco.bank.repository.interfaces.CounterRepository;
 import com.tenco.bank.repository.interfaces.UserRepository;
 import com.tenco.bank.repository.model.User;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
+@Timed(value = "bank.service", histogram = true) // 메서드별 실행 시간 (class, method 태그)
 @Service // IoC 대상(싱글톤 패턴으로 관리됨)
 @RequiredArgsConstructor
 public class UserService {
@@ -23,7 +28,9 @@ public class UserService {
 	// DI - 의존 주입
 	@Autowired
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
+	// BCrypt 는 전용 스레드 풀에서 실행 (요청 스레드 점유 방지)
+	private final PasswordHasher passwordHasher;
+	private final CounterRepository counterRepository;
 
 	// @Autowired 어노테이션과 똑같음 !!
 	// 생성자 의존 주입 - DI
@@ -39,13 +46,16 @@ public class UserService {
 	@Transactional // 트랜잭션 처리는 반드시 습관화
 	public void createUser(SignUpDTO dto) {
 		int result = 0;
+		// 코드 추가 부분
+		// 회원 가입 요청시 사용자가 던진 비밀번호 값을 암호화 처리 해야함ㄴ
+		// 해시 스레드 풀이 가득 차면 DataDeliveryException(503)
+		String hashPwd = passwordHasher.encode(dto.getPassword());
+		dto.setPassword(hashPwd);
 		try {
-
-			// 코드 추가 부분
-			// 회원 가입 요청시 사용자가 던진 비밀번호 값을 암호화 처리 해야함ㄴ
-			String hashPwd = passwordEncoder.encode(dto.getPassword());
-			dto.setPassword(hashPwd);
-			result = userRepository.insert(dto.toUser());
+			User user = dto.toUser();
+			result = userRepository.insert(user);
+			// 계좌 수 카운터 생성
+			counterRepository.insertUserStat(user.getId());
 		} catch (DataAccessException e) {
 			throw new DataDeliveryException("잘못된 처리입니다", HttpStatus.INTERNAL_SERVER_ERROR);
 		} catch (Exception e) {
@@ -70,11 +80,26 @@ public class UserService {
 		if (userEntity == null) {
 			throw new DataDeliveryException("아이디 혹은 비밀번호가 틀렸습니다.", HttpStatus.BAD_REQUEST);
 		}
-		boolean isPwdMatched = passwordEncoder.matches(dto.getPassword(), userEntity.getPassword());
+		boolean isPwdMatched = passwordHasher.matches(dto.getPassword(), userEntity.getPassword());
 		if (isPwdMatched == false) {
 			throw new DataDeliveryException("비밀번호가 잘못되었습니다", HttpStatus.BAD_REQUEST);
 		}
+		// cost 설정이 올라갔다면 평문을 알고 있는 지금 다시 해시
+		if (passwordHasher.upgradeEncoding(userEntity.getPassword())) {
+			rehash(userEntity, dto.getPassword());
+		}
 
 		return userEntity;
 	}
+
+	// 재해시 실패는 로그인 실패로 보지 않는다 (다음 로그인에 다시 시도)
+	private void rehash(User userEntity, String rawPassword) {
+		try {
+			String hashPwd = passwordHasher.encode(rawPassword);
+			userRepository.updatePasswordById(userEntity.getId(), hashPwd);
+			userEntity.setPassword(hashPwd);
+		} catch (DataDeliveryException | DataAccessException e) {
+			log.warn("비밀번호 재해시 실패 userId={} : {}", userEntity.getId(), e.getMessage());
+		}
+	}
 }
@@ -15,6 +15,11 @@ public class Define {
 	public static final String FAIL_ACCOUNT_PASSWROD = "계좌 비밀번호가 틀렸습니다.";
 	public static final String LACK_Of_BALANCE = "출금 잔액이 부족 합니다.";
 	public static final String NOT_ACCOUNT_OWNER = "계좌 소유자가 아닙니다.";
+	public static final String DUPLICATE_REQUEST_IN_PROGRESS = "같은 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.";
+	public static final String IDEMPOTENCY_KEY_REUSED = "이미 다른 요청에 사용된 요청 키입니다.";
+	public static final String SAME_ACCOUNT_TRANSFER = "같은 계좌로 이체할 수 없습니다.";
+	public static final String INGEST_NOT_SUPPORTED_IN_LEDGER_MODE = "원장(LEDGER) 모드에서는 대량 이체 파일을 처리할 수 없습니다.";
+	public static final String CONCURRENT_UPDATE_CONFLICT = "다른 거래와 동시에 처리되어 실패했습니다. 잠시 후 다시 시도해 주세요.";
 
 	//  User
 	public static final String ENTER_YOUR_LOGIN = "로그인 먼저 해주세요.";
@@ -25,6 +30,7 @@ public class Define {
 	public static final String ENTER_YOUR_BALANCE = "금액을 입력해 주세요.";
 	public static final String D_BALANCE_VALUE = "입금 금액이 0원 이하 일 수 없습니다.";
 	public static final String W_BALANCE_VALUE = "출금 금액이 0원 이하 일 수 없습니다.";
+	public static final String TOO_MANY_LOGIN_REQUESTS = "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.";
 
 	// etc 
 	public static final String FAIL_TO_CREATE_USER = "회원가입 실패.";
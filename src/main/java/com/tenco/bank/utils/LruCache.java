@@ -0,0 +1,84 @@
+package com.tenco.bank.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한 LRU 캐시 (스레드 안전)
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 적중/실패/제거 횟수를 기록한다.
+ */
+public class LruCache<K, V> {
+
+	private final int maxSize;
+	private final LinkedHashMap<K, V> map;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public LruCache(int maxSize) {
+		this.maxSize = maxSize;
+		// accessOrder = true --> get 할 때마다 가장 최근 항목으로 이동
+		this.map = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				if (size() > LruCache.this.maxSize) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public synchronized V get(K key) {
+		V value = map.get(key);
+		if (value == null) {
+			misses.increment();
+		} else {
+			hits.increment();
+		}
+		return value;
+	}
+
+	public synchronized void put(K key, V value) {
+		map.put(key, value);
+	}
+
+	public synchronized V remove(K key) {
+		return map.remove(key);
+	}
+
+	public synchronized void clear() {
+		map.clear();
+	}
+
+	public synchronized int size() {
+		return map.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	// 적중률 (0.0 ~ 1.0)
+	public double getHitRatio() {
+		long hit = hits.sum();
+		long total = hit + misses.sum();
+		return total == 0 ? 0.0 : (double) hit / total;
+	}
+}
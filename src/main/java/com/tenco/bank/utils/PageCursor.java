@@ -0,0 +1,64 @@
+package com.tenco.bank.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키셋(seek) 페이징 커서 - (created_at, id) 위치와 이동 방향
+ * 화면에는 base64url 로 인코딩된 토큰으로만 노출한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+	private final Timestamp createdAt;
+	private final Integer id;
+	// true - 이전 페이지 방향으로 조회
+	private final boolean backward;
+
+	public static PageCursor next(Timestamp createdAt, Integer id) {
+		return new PageCursor(createdAt, id, false);
+	}
+
+	public static PageCursor prev(Timestamp createdAt, Integer id) {
+		return new PageCursor(createdAt, id, true);
+	}
+
+	// 형식 : 방향(n/p):초:나노초:id
+	public String encode() {
+		long seconds = Math.floorDiv(createdAt.getTime(), 1000L);
+		String raw = (backward ? "p" : "n") + ":" + seconds + ":" + createdAt.getNanos() + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 토큰 해석
+	 * @param token
+	 * @return 토큰이 없으면 null (첫 페이지)
+	 */
+	public static PageCursor decode(String token) {
+		if (token == null || token.isEmpty()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(":");
+			if (parts.length != 4 || (parts[0].equals("n") == false && parts[0].equals("p") == false)) {
+				throw new IllegalArgumentException(raw);
+			}
+			Timestamp createdAt = new Timestamp(Long.parseLong(parts[1]) * 1000L);
+			createdAt.setNanos(Integer.parseInt(parts[2]));
+			return new PageCursor(createdAt, Integer.parseInt(parts[3]), parts[0].equals("p"));
+		} catch (IllegalArgumentException e) {
+			throw new DataDeliveryException(Define.INVALID_INPUT, HttpStatus.BAD_REQUEST);
+		}
+	}
+}
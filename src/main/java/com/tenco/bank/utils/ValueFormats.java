@@ -0,0 +1,89 @@
+package com.tenco.bank.utils;
+
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 화면/파일 출력용 값 포맷 (스레드 안전)
+ * 포맷 객체를 매번 만들지 않고, 스레드별 버퍼에 직접 써서 결과 문자열 하나만 생성한다.
+ * 여러 값을 이어 쓰는 경우(CSV 등)는 append 메서드로 호출자의 버퍼에 바로 쓴다.
+ */
+public final class ValueFormats {
+
+	private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+	private static final String LONG_MIN_GROUPED = "-9,223,372,036,854,775,808";
+	private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+	private ValueFormats() {
+	}
+
+	// 2024-08-01 10:00:00
+	public static String formatTimestamp(Timestamp timestamp) {
+		if (timestamp == null) {
+			return "";
+		}
+		return appendTimestamp(buffer(), timestamp).toString();
+	}
+
+	// 1,234,567원
+	public static String formatKoreanWon(Long amount) {
+		if (amount == null) {
+			return "";
+		}
+		return appendKoreanWon(buffer(), amount).toString();
+	}
+
+	public static StringBuilder appendTimestamp(StringBuilder sb, Timestamp timestamp) {
+		DATE_TIME.formatTo(timestamp.toLocalDateTime(), sb);
+		return sb;
+	}
+
+	public static StringBuilder appendKoreanWon(StringBuilder sb, long amount) {
+		return appendGrouped(sb, amount).append('원');
+	}
+
+	/**
+	 * 세 자리마다 쉼표 (DecimalFormat("#,###") 과 같은 결과)
+	 * 필요한 길이만큼 늘린 뒤 뒤에서부터 숫자를 채운다.
+	 */
+	public static StringBuilder appendGrouped(StringBuilder sb, long value) {
+		if (value == Long.MIN_VALUE) {
+			return sb.append(LONG_MIN_GROUPED);
+		}
+		if (value < 0) {
+			sb.append('-');
+			value = -value;
+		}
+		int digits = digits(value);
+		int length = digits + (digits - 1) / 3;
+		int start = sb.length();
+		sb.setLength(start + length);
+		int position = start + length - 1;
+		int count = 0;
+		do {
+			if (count > 0 && count % 3 == 0) {
+				sb.setCharAt(position--, ',');
+			}
+			sb.setCharAt(position--, (char) ('0' + (int) (value % 10)));
+			value /= 10;
+			count++;
+		} while (value > 0);
+		return sb;
+	}
+
+	private static int digits(long value) {
+		int digits = 1;
+		long limit = 10;
+		while (digits < 19 && value >= limit) {
+			digits++;
+			limit *= 10;
+		}
+		return digits;
+	}
+
+	private static StringBuilder buffer() {
+		StringBuilder sb = BUFFER.get();
+		sb.setLength(0);
+		return sb;
+	}
+}
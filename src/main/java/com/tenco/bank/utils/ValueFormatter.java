@@ -1,20 +1,16 @@
 package com.tenco.bank.utils;
 
 import java.sql.Timestamp;
-import java.text.DecimalFormat;
-import java.text.SimpleDateFormat;
 
+// JSP 에서 ${account.formatKoreanWon(...)} 처럼 호출 (실제 포맷은 ValueFormats)
 public abstract class ValueFormatter {
 
 	// 시간 포맷
 	public String timestampToString(Timestamp timestamp) {
-		SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-		return sdf.format(timestamp);
+		return ValueFormats.formatTimestamp(timestamp);
 	}
 
 	public String formatKoreanWon(Long amount) {
-		DecimalFormat df = new DecimalFormat("#,###");
-		String formatNumber = df.format(amount);
-		return formatNumber + "원";
+		return ValueFormats.formatKoreanWon(amount);
 	}
 }
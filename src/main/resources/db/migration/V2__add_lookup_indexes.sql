@@ -0,0 +1,7 @@
+-- 계좌 상세(거래 내역) 조회 : 계좌 id + 키셋 페이징 (created_at, id)
+create index idx_history_w_account on history_tb (w_account_id, created_at, id);
+create index idx_history_d_account on history_tb (d_account_id, created_at, id);
+create index idx_history_created_at on history_tb (created_at, id);
+
+-- 계좌 목록 조회 : 유저 id + 키셋 페이징 (created_at, id)
+create index idx_account_user on account_tb (user_id, created_at, id);
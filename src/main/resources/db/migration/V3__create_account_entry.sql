@@ -0,0 +1,34 @@
+-- 계좌별 거래 항목 (거래 1건당 계좌 한쪽 면 1행)
+-- 상대 계좌 번호, 거래 후 잔액을 함께 저장해서 조인 없이 거래 내역을 조회한다.
+create table account_entry_tb(
+	id int auto_increment primary key,
+    history_id int not null comment '거래내역 ID',
+    account_id int not null comment '계좌 ID',
+    direction char(1) not null comment 'W: 출금, D: 입금',
+    amount bigint not null comment '거래금액',
+    balance bigint comment '거래 후 계좌 잔액',
+    account_number varchar(30) comment '계좌 번호',
+    counterparty_number varchar(30) comment '상대 계좌 번호 (ATM 이면 null)',
+    created_at timestamp not null default now()
+);
+
+create index idx_entry_account on account_entry_tb (account_id, created_at, id);
+create index idx_entry_account_direction on account_entry_tb (account_id, direction, created_at, id);
+
+-- 기존 거래 내역 이관 (출금 면 + 입금 면)
+insert into account_entry_tb(history_id, account_id, direction, amount, balance, account_number, counterparty_number, created_at)
+select e.history_id, e.account_id, e.direction, e.amount, e.balance, e.account_number, e.counterparty_number, e.created_at
+from (
+	select h.id history_id, h.w_account_id account_id, 'W' direction, h.amount, h.w_balance balance,
+	wa.number account_number, da.number counterparty_number, h.created_at
+	from history_tb h
+	join account_tb wa on wa.id = h.w_account_id
+	left join account_tb da on da.id = h.d_account_id
+	union all
+	select h.id, h.d_account_id, 'D', h.amount, h.d_balance,
+	da.number, wa.number, h.created_at
+	from history_tb h
+	join account_tb da on da.id = h.d_account_id
+	left join account_tb wa on wa.id = h.w_account_id
+) e
+order by e.history_id, e.direction desc;
@@ -0,0 +1,27 @@
+-- 계좌별 거래 항목 수 (페이지 전체 건수를 count(*) 없이 조회)
+create table account_stat_tb(
+	account_id int primary key comment '계좌 ID',
+    all_count int not null default 0 comment '전체 거래 항목 수',
+    deposit_count int not null default 0 comment '입금 항목 수',
+    withdrawal_count int not null default 0 comment '출금 항목 수'
+);
+
+-- 유저별 계좌 수
+create table user_stat_tb(
+	user_id int primary key comment '유저 ID',
+    account_count int not null default 0 comment '계좌 수'
+);
+
+insert into account_stat_tb(account_id, all_count, deposit_count, withdrawal_count)
+select a.id, count(e.id),
+coalesce(sum(case when e.direction = 'D' then 1 else 0 end), 0),
+coalesce(sum(case when e.direction = 'W' then 1 else 0 end), 0)
+from account_tb a
+left join account_entry_tb e on e.account_id = a.id
+group by a.id;
+
+insert into user_stat_tb(user_id, account_count)
+select u.id, count(a.id)
+from user_tb u
+left join account_tb a on a.user_id = u.id
+group by u.id;
@@ -0,0 +1,17 @@
+-- 대량 이체 파일 처리 작업 (체크포인트)
+-- position/line_no/result_position 은 청크 이체와 같은 트랜잭션에서 갱신된다.
+create table ingest_job_tb(
+	id int auto_increment primary key,
+    user_id int not null comment '요청 유저 ID (출금 계좌 소유자)',
+    file_name varchar(255) not null comment '입력 파일 이름 (bank.ingest.directory 기준)',
+    format varchar(10) not null comment 'CSV, FIXED',
+    status varchar(10) not null comment 'RUNNING, DONE, FAILED',
+    position bigint not null default 0 comment '처리 완료한 입력 파일 바이트 위치',
+    line_no bigint not null default 0 comment '처리 완료한 줄 번호',
+    result_position bigint not null default 0 comment '결과 파일 바이트 위치',
+    succeeded int not null default 0 comment '성공 건수',
+    failed int not null default 0 comment '실패 건수',
+    message varchar(255) comment '작업 실패 사유',
+    created_at timestamp not null default now(),
+    updated_at timestamp not null default now()
+);
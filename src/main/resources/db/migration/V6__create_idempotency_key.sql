@@ -0,0 +1,14 @@
+-- 출금/입금/이체 재요청 중복 방지 (멱등성 키)
+-- 키 행은 잔액 변경과 같은 트랜잭션에서 생성, 완료되므로 실패한 요청은 남지 않는다.
+create table idempotency_key_tb(
+	id bigint auto_increment primary key,
+    user_id int not null comment '요청 유저 ID',
+    idem_key varchar(64) not null comment '클라이언트가 보낸 키 (Idempotency-Key 헤더, 폼 hidden 값)',
+    fingerprint varchar(100) not null comment '요청 내용 (거래 종류|출금 계좌|입금 계좌|금액) - 같은 키 다른 요청 거부',
+    balance bigint comment '처리 결과 잔액 (처리 중이면 null)',
+    created_at timestamp not null default now()
+);
+
+create unique index uk_idempotency_user_key on idempotency_key_tb (user_id, idem_key);
+-- 보관 기간 지난 키 정리
+create index idx_idempotency_created_at on idempotency_key_tb (created_at);
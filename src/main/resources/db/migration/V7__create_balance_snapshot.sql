@@ -0,0 +1,18 @@
+-- 계좌별 일 마감 잔액 (과거 시점 잔액 조회)
+-- history_tb.id 워터마크 이후 거래만 증분으로 반영한다.
+create table balance_snapshot_tb(
+	account_id int not null comment '계좌 ID',
+    snapshot_date date not null comment '기준일',
+    balance bigint not null comment '기준일 마지막 거래 후 잔액',
+    history_id int not null comment '잔액을 만든 마지막 거래내역 ID',
+    primary key (account_id, snapshot_date)
+);
+
+-- 스냅샷 작업 진행 위치 (여러 서버가 동시에 실행하지 않도록 행 잠금으로도 사용)
+create table snapshot_watermark_tb(
+	name varchar(30) primary key,
+    last_history_id int not null default 0 comment '반영 완료한 마지막 거래내역 ID',
+    updated_at timestamp not null default now()
+);
+
+insert into snapshot_watermark_tb(name, last_history_id, updated_at) values('balance', 0, now());
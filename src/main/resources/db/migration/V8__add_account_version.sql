@@ -0,0 +1,3 @@
+-- 낙관적 동시성 제어 (OPTIMISTIC 모드) : 잔액이 바뀔 때마다 1 증가
+-- update ... where id = ? and version = ? 결과가 0 행이면 다른 거래가 먼저 변경한 것
+alter table account_tb add column version bigint not null default 0;
@@ -0,0 +1,5 @@
+-- 대량 이체 작업 소유권 (여러 서버에서 같은 작업을 동시에 처리하지 않도록)
+-- 작업을 처리하는 서버가 owner 를 기록하고 청크마다 lease_until 을 연장한다.
+-- RUNNING 이라도 lease_until 이 지나면 (처리하던 서버가 죽은 것으로 보고) 다른 서버가 이어서 처리할 수 있다.
+alter table ingest_job_tb add column owner varchar(64) comment '처리 중인 서버 (PaymentFileIngestService 인스턴스)';
+alter table ingest_job_tb add column lease_until timestamp comment '소유권 만료 시각';
@@ -8,6 +8,7 @@
 	<h2>입금 요청(인증)</h2>
 	<h5>Bank App에 오신걸 환영합니다</h5>
 	<form action="/account/deposit" method="post">
+		<input type="hidden" name="idempotencyKey" value="${idempotencyKey}">
 		<div class="form-group">
 			<label for="dAccountNumber">입금 계좌 번호:</label> <input type="text" class="form-control" placeholder="Enter account number" id="dAccountNumber" name="dAccountNumber" value="1111">
 		</div>
@@ -14,7 +14,7 @@
 		<br>
 		<div>
 			<a href="/account/detail/${account.id}?type=all" class="btn btn-outline-primary">전체</a>&nbsp; <a href="/account/detail/${account.id}?type=deposit" class="btn btn-outline-primary">입금</a>&nbsp; <a
-				href="/account/detail/${account.id}?type=withdrawal" class="btn btn-outline-primary">출금</a>&nbsp;
+				href="/account/detail/${account.id}?type=withdrawal" class="btn btn-outline-primary">출금</a>&nbsp; <a href="/account/statement/${account.id}" class="btn btn-outline-secondary">거래명세서(CSV)</a>
 		</div>
 		<br>
 		<table class="table table-striped">
@@ -45,20 +45,18 @@
 			<ul class="pagination">
 			
 				<!-- Previous Page Link -->
-				<li class="page-item <c:if test='${currentPage == 1}'>disabled</c:if>">
-					<a class="page-link" href="?type=${type}&page=${currentPage - 1}&size=${size}">&lt;</a>
+				<li class="page-item <c:if test='${prevCursor == null}'>disabled</c:if>">
+					<a class="page-link" href="?type=${type}&cursor=${prevCursor}&size=${size}">&lt;</a>
 				</li>
-				
-				<!-- Page Numbers -->
-				<c:forEach begin="1" end="${totalPages}" var="page">
-					<li class="page-item <c:if test='${currentPage == page}'>active</c:if>">
-						<a class="page-link" href="?type=${type}&page=${page}&size=${size}">${page}</a>
-					</li>
-				</c:forEach>
-				
+
+				<!-- Total Records -->
+				<li class="page-item disabled">
+					<span class="page-link">총 ${totalRecords}건</span>
+				</li>
+
 				<!-- Next Page Link -->
-				<li class="page-item <c:if test='${currentPage == totalPages}'>disabled</c:if>">
-					<a class="page-link" href="?type=${type}&page=${currentPage + 1}&size=${size}">&gt;</a>
+				<li class="page-item <c:if test='${nextCursor == null}'>disabled</c:if>">
+					<a class="page-link" href="?type=${type}&cursor=${nextCursor}&size=${size}">&gt;</a>
 				</li>
 			</ul>
 		</div>
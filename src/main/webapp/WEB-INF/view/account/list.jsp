@@ -39,20 +39,18 @@
 			<ul class="pagination">
 			
 				<!-- Previous Page Link -->
-				<li class="page-item <c:if test='${currentPage == 1}'>disabled</c:if>">
-					<a class="page-link" href="?page=${currentPage - 1}&size=${size}">&lt;</a>
+				<li class="page-item <c:if test='${prevCursor == null}'>disabled</c:if>">
+					<a class="page-link" href="?cursor=${prevCursor}&size=${size}">&lt;</a>
 				</li>
-				
-				<!-- Page Numbers -->
-				<c:forEach begin="1" end="${totalPages}" var="page">
-					<li class="page-item <c:if test='${currentPage == page}'>active</c:if>">
-						<a class="page-link" href="?page=${page}&size=${size}">${page}</a>
-					</li>
-				</c:forEach>
-				
+
+				<!-- Total Records -->
+				<li class="page-item disabled">
+					<span class="page-link">총 ${totalRecords}건</span>
+				</li>
+
 				<!-- Next Page Link -->
-				<li class="page-item <c:if test='${currentPage == totalPages}'>disabled</c:if>">
-					<a class="page-link" href="?page=${currentPage + 1}&size=${size}">&gt;</a>
+				<li class="page-item <c:if test='${nextCursor == null}'>disabled</c:if>">
+					<a class="page-link" href="?cursor=${nextCursor}&size=${size}">&gt;</a>
 				</li>
 			</ul>
 		</div>
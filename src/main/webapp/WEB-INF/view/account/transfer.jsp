@@ -8,6 +8,7 @@
 	<h2>이체 요청(인증)</h2>
 	<h5>Bank App에 오신걸 환영합니다</h5>
 	<form action="/account/transfer" method="post">
+		<input type="hidden" name="idempotencyKey" value="${idempotencyKey}">
 		<div class="form-group">
 			<label for="amount">이체 금액:</label> <input type="number" class="form-control" placeholder="Enter amount" id="amount" name="amount" value="1000">
 		</div>
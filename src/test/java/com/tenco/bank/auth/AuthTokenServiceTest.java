@@ -0,0 +1,63 @@
+package com.tenco.bank.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import com.tenco.bank.repository.model.User;
+
+class AuthTokenServiceTest {
+
+	private static final Instant NOW = Instant.parse("2024-08-01T00:00:00Z");
+	private final User user = User.builder().id(1).username("길동|gil").fullname("고").password("hash").build();
+
+	@Test
+	void issuedTokenVerifiesWithoutPassword() {
+		AuthTokenService service = service("secret", NOW);
+
+		User principal = service.verify(service.issue(user));
+
+		assertEquals(1, principal.getId());
+		assertEquals("길동|gil", principal.getUsername());
+		assertEquals("고", principal.getFullname());
+		assertNull(principal.getPassword());
+	}
+
+	@Test
+	void tokenFromAnotherKeyIsRejected() {
+		String token = service("other", NOW).issue(user);
+
+		assertNull(service("secret", NOW).verify(token));
+	}
+
+	@Test
+	void tamperedPayloadIsRejected() {
+		AuthTokenService service = service("secret", NOW);
+		String token = service.issue(user);
+		String forged = service.issue(User.builder().id(2).username("둘리").build());
+
+		// 다른 사용자의 payload + 원래 서명
+		String tampered = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+		assertNull(service.verify(tampered));
+		assertNull(service.verify("garbage"));
+		assertNull(service.verify("@@@.###"));
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+		String token = service("secret", NOW).issue(user);
+
+		assertNull(service("secret", NOW.plus(Duration.ofMinutes(61))).verify(token));
+	}
+
+	private AuthTokenService service(String secret, Instant now) {
+		return new AuthTokenService(secret, Duration.ofMinutes(60), Clock.fixed(now, ZoneOffset.UTC));
+	}
+}
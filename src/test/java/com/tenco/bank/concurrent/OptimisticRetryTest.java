@@ -0,0 +1,90 @@
+package com.tenco.bank.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.utils.Define;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OptimisticRetryTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final OptimisticRetry optimisticRetry = new OptimisticRetry(3, 1, 5);
+
+	@BeforeEach
+	void setUp() {
+		optimisticRetry.bindTo(meterRegistry);
+	}
+
+	@Test
+	void retriesConflictUntilSuccess() {
+		AtomicInteger attempts = new AtomicInteger();
+		Long balance = optimisticRetry.execute(() -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new OptimisticLockingFailureException("conflict");
+			}
+			return 100L;
+		});
+
+		assertEquals(100L, balance);
+		assertEquals(3, attempts.get());
+		assertEquals(2.0, meterRegistry.get("bank.optimistic.conflicts").functionCounter().count());
+		assertEquals(2.0, meterRegistry.get("bank.optimistic.retries").functionCounter().count());
+		assertEquals(0.0, meterRegistry.get("bank.optimistic.exhausted").functionCounter().count());
+	}
+
+	@Test
+	void retriesLockFailures() {
+		AtomicInteger attempts = new AtomicInteger();
+		Long balance = optimisticRetry.execute(() -> {
+			int attempt = attempts.incrementAndGet();
+			if (attempt == 1) {
+				throw new CannotAcquireLockException("lock wait timeout");
+			}
+			if (attempt == 2) {
+				throw new DeadlockLoserDataAccessException("deadlock", null);
+			}
+			return 100L;
+		});
+
+		assertEquals(100L, balance);
+		assertEquals(3, attempts.get());
+		assertEquals(2.0, meterRegistry.get("bank.optimistic.retries").functionCounter().count());
+	}
+
+	@Test
+	void exhaustedRetriesFailWithConflict() {
+		AtomicInteger attempts = new AtomicInteger();
+		DataDeliveryException e = assertThrows(DataDeliveryException.class, () -> optimisticRetry.execute(() -> {
+			attempts.incrementAndGet();
+			throw new OptimisticLockingFailureException("conflict");
+		}));
+
+		assertEquals(Define.CONCURRENT_UPDATE_CONFLICT, e.getMessage());
+		assertEquals(HttpStatus.CONFLICT, e.getStatus());
+		assertEquals(3, attempts.get());
+		assertEquals(1.0, meterRegistry.get("bank.optimistic.exhausted").functionCounter().count());
+	}
+
+	@Test
+	void otherFailuresAreNotRetried() {
+		AtomicInteger attempts = new AtomicInteger();
+		assertThrows(DataDeliveryException.class, () -> optimisticRetry.execute(() -> {
+			attempts.incrementAndGet();
+			throw new DataDeliveryException(Define.LACK_Of_BALANCE, HttpStatus.BAD_REQUEST);
+		}));
+
+		assertEquals(1, attempts.get());
+	}
+}
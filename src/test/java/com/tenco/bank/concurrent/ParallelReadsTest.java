@@ -0,0 +1,127 @@
+package com.tenco.bank.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.utils.Define;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ParallelReadsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ParallelReads parallelReads = new ParallelReads(Executors.newVirtualThreadPerTaskExecutor(), 1000, meterRegistry);
+
+	@AfterEach
+	void tearDown() {
+		parallelReads.shutdown();
+	}
+
+	@Test
+	void readsRunAtTheSameTime() {
+		// 두 조회가 서로를 기다린다 - 순서대로 실행했다면 먼저 시작한 조회가 barrier 에서 시간 초과로 실패한다.
+		CyclicBarrier bothStarted = new CyclicBarrier(2);
+		ParallelReads.Batch batch = parallelReads.begin();
+		ParallelReads.Part<String> first = batch.add("first", () -> awaitThen(bothStarted, "a"));
+		ParallelReads.Part<String> second = batch.add("second", () -> awaitThen(bothStarted, "b"));
+		batch.await();
+
+		assertEquals("a", first.get());
+		assertEquals("b", second.get());
+	}
+
+	@Test
+	void requiredTimeoutFailsWithinDeadlineWithoutInterruptingRead() throws InterruptedException {
+		// 실행 중인 조회는 인터럽트하지 않는다 - DB 조회는 statement timeout 으로 끝난다.
+		CountDownLatch finished = new CountDownLatch(1);
+		ParallelReads.Batch batch = parallelReads.begin(200);
+		batch.add("fast", () -> "ok");
+		batch.add("slow", () -> {
+			try {
+				Thread.sleep(500);
+				finished.countDown();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "late";
+		});
+
+		long started = System.nanoTime();
+		DataDeliveryException e = assertThrows(DataDeliveryException.class, batch::await);
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatus());
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 1000);
+		assertTrue(finished.await(2, TimeUnit.SECONDS));
+		assertEquals(1.0, meterRegistry.counter("bank.parallel.reads.failures", "read", "slow", "outcome", "timeout").count());
+	}
+
+	@Test
+	void requiredFailureRethrowsOriginalException() {
+		DataDeliveryException original = new DataDeliveryException(Define.NOT_EXIST_ACCOUNT, HttpStatus.BAD_REQUEST);
+		ParallelReads.Batch batch = parallelReads.begin();
+		batch.add("ok", () -> "ok");
+		batch.add("broken", () -> {
+			throw original;
+		});
+
+		assertSame(original, assertThrows(DataDeliveryException.class, batch::await));
+	}
+
+	@Test
+	void optionalFailuresUseFallback() {
+		ParallelReads.Batch batch = parallelReads.begin(200);
+		ParallelReads.Part<String> required = batch.add("required", () -> "value");
+		ParallelReads.Part<Integer> broken = batch.addOptional("broken", () -> {
+			throw new IllegalStateException("db down");
+		}, -1);
+		ParallelReads.Part<Integer> slow = batch.addOptional("slow", () -> sleepThen(5000, 1), 0);
+		batch.await();
+
+		assertEquals("value", required.get());
+		assertEquals(-1, broken.get());
+		assertEquals(0, slow.get());
+	}
+
+	@Test
+	void resultIsNotReadableBeforeAwait() {
+		ParallelReads.Batch batch = parallelReads.begin();
+		ParallelReads.Part<String> part = batch.add("part", () -> "value");
+
+		assertThrows(IllegalStateException.class, part::get);
+	}
+
+	private static <T> T awaitThen(CyclicBarrier barrier, T value) {
+		try {
+			barrier.await(500, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (BrokenBarrierException | TimeoutException e) {
+			throw new IllegalStateException("다른 조회가 동시에 실행되지 않았습니다.", e);
+		}
+		return value;
+	}
+
+	private static <T> T sleepThen(long millis, T value) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return value;
+	}
+}
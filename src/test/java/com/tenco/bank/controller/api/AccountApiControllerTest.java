@@ -0,0 +1,161 @@
+package com.tenco.bank.controller.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.tenco.bank.repository.model.User;
+import com.tenco.bank.utils.Define;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class AccountApiControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// data.sql - 1번 유저(길동)
+	private final User principal = User.builder().id(1).username("길동").build();
+
+	@Test
+	void batchTransferReturnsResultPerItem() throws Exception {
+		long balance1111 = balance("1111");
+		long balance1112 = balance("1112");
+		long balance2222 = balance("2222");
+		String body = """
+				{ "items": [
+				  { "fromAccountNumber": "1111", "toAccountNumber": "2222", "password": "1234", "amount": 100 },
+				  { "fromAccountNumber": "1112", "toAccountNumber": "2222", "password": "0000", "amount": 100 },
+				  { "fromAccountNumber": "1113", "toAccountNumber": "2222", "password": "1234", "amount": 100000000 },
+				  { "fromAccountNumber": "2222", "toAccountNumber": "1111", "password": "1234", "amount": 100 },
+				  { "fromAccountNumber": "1111", "toAccountNumber": "9999", "password": "1234", "amount": 100 },
+				  { "fromAccountNumber": "1111", "toAccountNumber": "1112", "password": "1234", "amount": 50 },
+				  { "fromAccountNumber": "1111", "toAccountNumber": "1111", "password": "1234", "amount": 10 }
+				] }
+				""";
+
+		mockMvc.perform(post("/api/v1/transfers/batch").sessionAttr(Define.PRINCIPAL, principal).contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.code").value("OK"))
+				.andExpect(jsonPath("$.data[0].code").value("OK"))
+				.andExpect(jsonPath("$.data[0].balance").value(balance1111 - 100))
+				.andExpect(jsonPath("$.data[1].code").value("INVALID_ACCOUNT_PASSWORD"))
+				.andExpect(jsonPath("$.data[2].code").value("INSUFFICIENT_BALANCE"))
+				.andExpect(jsonPath("$.data[3].code").value("NOT_ACCOUNT_OWNER"))
+				.andExpect(jsonPath("$.data[4].code").value("ACCOUNT_NOT_FOUND"))
+				.andExpect(jsonPath("$.data[5].code").value("OK"))
+				.andExpect(jsonPath("$.data[5].balance").value(balance1111 - 150))
+				.andExpect(jsonPath("$.data[6].code").value("INVALID_INPUT"));
+
+		assertEquals(balance1111 - 150, balance("1111"));
+		assertEquals(balance1112 + 50, balance("1112"));
+		assertEquals(balance2222 + 100, balance("2222"));
+	}
+
+	@Test
+	void errorsAreJsonCodes() throws Exception {
+		String body = """
+				{ "fromAccountNumber": "1111", "toAccountNumber": "2222", "password": "1234", "amount": 100000000 }
+				""";
+
+		mockMvc.perform(post("/api/v1/transfers").sessionAttr(Define.PRINCIPAL, principal).contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("INSUFFICIENT_BALANCE"))
+				.andExpect(jsonPath("$.message").value(Define.LACK_Of_BALANCE));
+
+		mockMvc.perform(post("/api/v1/transfers").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isUnauthorized())
+				.andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
+	}
+
+	@Test
+	void retriedTransferWithSameKeyIsAppliedOnce() throws Exception {
+		long balance1114 = balance("1114");
+		long balance2222 = balance("2222");
+		int histories = histories();
+		String body = """
+				{ "fromAccountNumber": "1114", "toAccountNumber": "2222", "password": "1234", "amount": 100 }
+				""";
+
+		for (int i = 0; i < 3; i++) {
+			mockMvc.perform(post("/api/v1/transfers").sessionAttr(Define.PRINCIPAL, principal).header(AccountApiController.IDEMPOTENCY_KEY_HEADER, "retry-1")
+					.contentType(MediaType.APPLICATION_JSON).content(body))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.data.balance").value(balance1114 - 100));
+		}
+
+		assertEquals(balance1114 - 100, balance("1114"));
+		assertEquals(balance2222 + 100, balance("2222"));
+		assertEquals(histories + 1, histories());
+
+		// 같은 키로 다른 요청
+		String otherBody = """
+				{ "fromAccountNumber": "1114", "toAccountNumber": "2222", "password": "1234", "amount": 200 }
+				""";
+		mockMvc.perform(post("/api/v1/transfers").sessionAttr(Define.PRINCIPAL, principal).header(AccountApiController.IDEMPOTENCY_KEY_HEADER, "retry-1")
+				.contentType(MediaType.APPLICATION_JSON).content(otherBody))
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+		assertEquals(balance1114 - 100, balance("1114"));
+	}
+
+	@Test
+	void failedRequestDoesNotKeepKey() throws Exception {
+		String tooMuch = """
+				{ "accountNumber": "1115", "password": "1234", "amount": 100000000 }
+				""";
+		mockMvc.perform(post("/api/v1/withdrawals").sessionAttr(Define.PRINCIPAL, principal).header(AccountApiController.IDEMPOTENCY_KEY_HEADER, "retry-2")
+				.contentType(MediaType.APPLICATION_JSON).content(tooMuch))
+				.andExpect(status().isBadRequest());
+
+		// 실패한 요청의 키는 롤백되므로 같은 키로 다시 처리된다.
+		long balance1115 = balance("1115");
+		String body = """
+				{ "accountNumber": "1115", "password": "1234", "amount": 100 }
+				""";
+		mockMvc.perform(post("/api/v1/withdrawals").sessionAttr(Define.PRINCIPAL, principal).header(AccountApiController.IDEMPOTENCY_KEY_HEADER, "retry-2")
+				.contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.balance").value(balance1115 - 100));
+		assertEquals(balance1115 - 100, balance("1115"));
+	}
+
+	@Test
+	void historyReturnsAccountWithBalanceAndPage() throws Exception {
+		// 1116 (id 6) 은 다른 테스트에서 사용하지 않는 계좌
+		mockMvc.perform(get("/api/v1/accounts/6/history").param("size", "5").sessionAttr(Define.PRINCIPAL, principal))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.account.number").value("1116"))
+				.andExpect(jsonPath("$.data.account.balance").value(balance("1116")))
+				.andExpect(jsonPath("$.data.account.password").doesNotExist())
+				.andExpect(jsonPath("$.data.totalRecords").isNumber())
+				.andExpect(jsonPath("$.data.history.content").isArray());
+
+		// 남의 계좌는 소유자 확인에서 거절
+		mockMvc.perform(get("/api/v1/accounts/8/history").sessionAttr(Define.PRINCIPAL, principal))
+				.andExpect(jsonPath("$.code").value("NOT_ACCOUNT_OWNER"));
+	}
+
+	private long balance(String number) {
+		return jdbcTemplate.queryForObject("select balance from account_tb where number = ?", Long.class, number);
+	}
+
+	private int histories() {
+		return jdbcTemplate.queryForObject("select count(*) from history_tb", Integer.class);
+	}
+}
@@ -0,0 +1,51 @@
+package com.tenco.bank.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.tenco.bank.dto.DepositDTO;
+import com.tenco.bank.service.AccountService;
+
+/**
+ * replica + LEDGER 모드 - 요청 스레드는 쓰기 커넥션을 쓰지 않고 원장 저장 스레드가 커밋한다.
+ * 저장 완료 후 요청 유저의 쓰기 시각이 기록되는지 확인한다.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:ledger_routing_primary;MODE=MySQL",
+		"bank.replica.datasource.jdbc-url=jdbc:h2:mem:ledger_routing_replica;MODE=MySQL",
+		"bank.money.mode=LEDGER" })
+@ActiveProfiles("replica")
+@DirtiesContext
+class LedgerReadYourWritesTest {
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private ReplicaStalenessGuard guard;
+
+	@AfterEach
+	void tearDown() {
+		ReadRouting.end();
+	}
+
+	@Test
+	void ledgerWriteIsRecordedForRequestUser() {
+		ReadRouting.begin(1, guard);
+		assertFalse(guard.mustReadPrimary(1));
+
+		DepositDTO dto = new DepositDTO();
+		dto.setAmount(100L);
+		dto.setDAccountNumber("1111");
+		accountService.updateAccountDeposit(dto, 1);
+
+		assertTrue(guard.mustReadPrimary(1));
+	}
+}
@@ -0,0 +1,116 @@
+package com.tenco.bank.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.tenco.bank.dto.DepositDTO;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.service.AccountService;
+
+/**
+ * replica 프로필 - 두 번째 H2 를 replica 로 사용
+ * replica 에만 잔액을 바꿔 두고 어느 쪽에서 읽었는지 확인한다.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL",
+		"bank.replica.datasource.jdbc-url=jdbc:h2:mem:routing_replica;MODE=MySQL",
+		"bank.replica.max-staleness-ms=200" })
+@ActiveProfiles("replica")
+@DirtiesContext
+class ReadWriteRoutingTest {
+
+	private static final long REPLICA_ONLY_BALANCE = 987654L;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replicaDataSource;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primaryDataSource;
+
+	@Autowired
+	private ReplicaStalenessGuard guard;
+
+	private Long originalBalance;
+
+	@BeforeEach
+	void setUp() {
+		JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+		originalBalance = replica.queryForObject("select balance from account_tb where number = '1111'", Long.class);
+		replica.update("update account_tb set balance = ? where number = '1111'", REPLICA_ONLY_BALANCE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReadRouting.end();
+		new JdbcTemplate(replicaDataSource).update("update account_tb set balance = ? where number = '1111'", originalBalance);
+	}
+
+	@Test
+	void readOnlyTransactionReadsReplica() {
+		assertEquals(REPLICA_ONLY_BALANCE, balanceOf1111());
+	}
+
+	@Test
+	void primaryOnlyRequestReadsPrimary() {
+		Long primaryBalance = new JdbcTemplate(primaryDataSource)
+				.queryForObject("select balance from account_tb where number = '1111'", Long.class);
+		guard.recordWrite(1);
+		ReadRouting.begin(1, guard);
+		assertEquals(primaryBalance, balanceOf1111());
+	}
+
+	@Test
+	void commitRecordsWriteBeforeRequestEndsAndGuardExpires() throws InterruptedException {
+		ReadRouting.begin(3, guard);
+		accountService.updateAccountDeposit(depositOf1111(), 3);
+		// 요청이 끝나기 전 (커밋 직후) 에 기록된다.
+		assertTrue(guard.mustReadPrimary(3));
+		assertFalse(guard.mustReadPrimary(2));
+		Thread.sleep(300);
+		assertFalse(guard.mustReadPrimary(3));
+	}
+
+	@Test
+	void rolledBackWriteIsNotRecorded() {
+		ReadRouting.begin(4, guard);
+		DepositDTO dto = depositOf1111();
+		dto.setDAccountNumber("no-such-account");
+		assertThrows(DataDeliveryException.class, () -> accountService.updateAccountDeposit(dto, 4));
+		assertFalse(guard.mustReadPrimary(4));
+	}
+
+	private Long balanceOf1111() {
+		return accountService.readAccountListByUserId(1, null, 10).getContent().stream()
+				.filter(account -> "1111".equals(account.getNumber()))
+				.map(Account::getBalance)
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private DepositDTO depositOf1111() {
+		DepositDTO dto = new DepositDTO();
+		dto.setAmount(100L);
+		dto.setDAccountNumber("1111");
+		return dto;
+	}
+}
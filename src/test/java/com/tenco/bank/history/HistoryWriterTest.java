@@ -0,0 +1,85 @@
+package com.tenco.bank.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tenco.bank.repository.model.History;
+
+/**
+ * 묶음 insert 사용시 거래 내역이 호출자 트랜잭션과 함께 커밋/롤백되는지 확인
+ */
+@SpringBootTest(properties = "bank.history.batch-insert.enabled=true")
+@DirtiesContext
+class HistoryWriterTest {
+
+	@Autowired
+	private HistoryWriter historyWriter;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void rolledBackTransactionLeavesNoHistory() {
+		int before = historyCount();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			historyWriter.write(deposit());
+			// 커밋 전에는 아직 저장되지 않는다 (beforeCommit 에서 저장)
+			assertEquals(before, historyCount());
+			status.setRollbackOnly();
+		});
+		assertEquals(before, historyCount());
+	}
+
+	@Test
+	void committedTransactionWritesHistoryWithItsEntries() {
+		int before = historyCount();
+		int entriesBefore = jdbcTemplate.queryForObject("select count(*) from account_entry_tb", Integer.class);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			historyWriter.write(deposit());
+			historyWriter.write(deposit());
+		});
+		assertEquals(before + 2, historyCount());
+		assertEquals(entriesBefore + 2, jdbcTemplate.queryForObject("select count(*) from account_entry_tb", Integer.class));
+	}
+
+	@Test
+	void entriesCopyAccountNumberAndTimeFromHistory() {
+		History history = History.builder().amount(1L).wAccountId(1).dAccountId(2).wBalance(1L).dBalance(1L).build();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> historyWriter.write(history));
+
+		// 계좌 번호는 계좌 캐시에서, 거래 시각은 거래 내역과 같은 값
+		Map<String, Object> withdrawal = jdbcTemplate.queryForMap(
+				"select e.account_number, e.counterparty_number, e.created_at, h.created_at history_created_at from account_entry_tb e join history_tb h on h.id = e.history_id where e.history_id = ? and e.direction = 'W'",
+				history.getId());
+		assertEquals("1111", withdrawal.get("account_number"));
+		assertEquals("1112", withdrawal.get("counterparty_number"));
+		assertEquals(withdrawal.get("history_created_at"), withdrawal.get("created_at"));
+	}
+
+	@Test
+	void writeOutsideTransactionIsInsertedImmediately() {
+		int before = historyCount();
+		historyWriter.write(deposit());
+		assertEquals(before + 1, historyCount());
+	}
+
+	private int historyCount() {
+		return jdbcTemplate.queryForObject("select count(*) from history_tb", Integer.class);
+	}
+
+	private History deposit() {
+		return History.builder().amount(1L).dAccountId(1).dBalance(1L).build();
+	}
+}
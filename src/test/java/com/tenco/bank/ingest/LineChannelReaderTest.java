@@ -0,0 +1,47 @@
+package com.tenco.bank.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LineChannelReaderTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void readsLinesAcrossBufferBoundariesAndResumesFromPosition() throws IOException {
+		Path file = directory.resolve("lines.csv");
+		Files.writeString(file, "1111,2222,1234,100\r\n둘리계좌,2222,1234,200\n\nlast-line-without-newline", StandardCharsets.UTF_8);
+
+		long secondLineEnd;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// 버퍼보다 긴 줄, 여러 바이트 문자, \r\n 처리 확인
+			LineChannelReader reader = new LineChannelReader(channel, 0, 4);
+			assertEquals("1111,2222,1234,100", reader.readLine());
+			assertEquals("둘리계좌,2222,1234,200", reader.readLine());
+			secondLineEnd = reader.position();
+			assertEquals("", reader.readLine());
+			assertEquals("last-line-without-newline", reader.readLine());
+			assertNull(reader.readLine());
+			assertEquals(Files.size(file), reader.position());
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// 체크포인트 위치부터 이어 읽기
+			LineChannelReader reader = new LineChannelReader(channel, secondLineEnd, 64);
+			assertEquals("", reader.readLine());
+			assertEquals("last-line-without-newline", reader.readLine());
+			assertNull(reader.readLine());
+		}
+	}
+}
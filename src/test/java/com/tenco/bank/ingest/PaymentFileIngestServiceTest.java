@@ -0,0 +1,143 @@
+package com.tenco.bank.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.tenco.bank.repository.model.IngestJob;
+
+@SpringBootTest(properties = "bank.ingest.chunk-size=2")
+@DirtiesContext
+class PaymentFileIngestServiceTest {
+
+	@TempDir
+	static Path directory;
+
+	@DynamicPropertySource
+	static void ingestDirectory(DynamicPropertyRegistry registry) {
+		registry.add("bank.ingest.directory", () -> directory.toString());
+	}
+
+	@Autowired
+	private PaymentFileIngestService paymentFileIngestService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void streamsFileInChunksAndWritesResultPerLine() throws Exception {
+		long balance1111 = balance("1111");
+		long balance2222 = balance("2222");
+		// data.sql - 1111 은 1번 유저 계좌
+		Files.writeString(directory.resolve("payroll.csv"), String.join("\n",
+				"fromAccountNumber,toAccountNumber,password,amount",
+				"1111,2222,1234,10",
+				"1111,2222,0000,10",
+				"1111,2222,1234,abc",
+				"",
+				"1111,2222,1234,20",
+				"1111,2222,1234") + "\n", StandardCharsets.UTF_8);
+
+		IngestJob job = paymentFileIngestService.start(1, "payroll.csv", PaymentFileFormat.CSV);
+		job = awaitFinished(job.getId());
+
+		assertEquals(IngestJob.DONE, job.getStatus());
+		assertEquals(2, job.getSucceeded());
+		assertEquals(3, job.getFailed());
+		assertEquals(7, job.getLineNo());
+		assertEquals(balance1111 - 30, balance("1111"));
+		assertEquals(balance2222 + 30, balance("2222"));
+
+		List<String> results = Files.readAllLines(paymentFileIngestService.resultFile(job), StandardCharsets.UTF_8);
+		assertEquals(5, results.size());
+		assertEquals("2,OK", results.get(0).substring(0, 4));
+		assertEquals("3,INVALID_ACCOUNT_PASSWORD", results.get(1).substring(0, "3,INVALID_ACCOUNT_PASSWORD".length()));
+		assertEquals("4,INVALID_INPUT", results.get(2).substring(0, "4,INVALID_INPUT".length()));
+		assertEquals("6,OK", results.get(3).substring(0, 4));
+		assertEquals("7,INVALID_INPUT", results.get(4).substring(0, "7,INVALID_INPUT".length()));
+
+		// 완료된 작업은 다시 처리하지 않는다.
+		paymentFileIngestService.resume(job.getId(), 1);
+		assertEquals(balance1111 - 30, balance("1111"));
+	}
+
+	@Test
+	void resumesCrashedJobFromCheckpointAndDropsUncommittedResults() throws Exception {
+		long balance1113 = balance("1113");
+		long balance3333 = balance("3333");
+		String header = "fromAccountNumber,toAccountNumber,password,amount\n";
+		String committed = "1113,3333,1234,10\n1113,3333,1234,10\n";
+		Files.writeString(directory.resolve("crashed.csv"), header + committed + "1113,3333,1234,5\n1113,3333,1234,7\n", StandardCharsets.UTF_8);
+		// 첫 청크(2~3번 줄)까지 커밋한 후 죽은 서버 : 결과 파일에는 커밋되지 않은 청크의 결과가 일부 남아 있다.
+		String committedResults = "2,OK,,0\n3,OK,,0\n";
+		Integer jobId = insertJob("crashed.csv", "dead-node", -60, header.length() + committed.length(), 3, committedResults.length(), 2);
+		Files.writeString(paymentFileIngestService.resultFile(IngestJob.builder().id(jobId).build()), committedResults + "4,OK,,0\n5,O", StandardCharsets.UTF_8);
+
+		IngestJob job = paymentFileIngestService.resume(jobId, 1);
+		job = awaitFinished(job.getId());
+
+		assertEquals(IngestJob.DONE, job.getStatus());
+		assertEquals(4, job.getSucceeded());
+		assertEquals(5, job.getLineNo());
+		// 체크포인트 이후 줄만 이체
+		assertEquals(balance1113 - 12, balance("1113"));
+		assertEquals(balance3333 + 12, balance("3333"));
+		List<String> results = Files.readAllLines(paymentFileIngestService.resultFile(job), StandardCharsets.UTF_8);
+		assertEquals(4, results.size());
+		assertEquals("2,OK,,0", results.get(0));
+		assertEquals("3,OK,,0", results.get(1));
+		assertEquals("4,OK", results.get(2).substring(0, 4));
+		assertEquals("5,OK", results.get(3).substring(0, 4));
+	}
+
+	@Test
+	void resumeLeavesJobOwnedByAnotherNode() throws Exception {
+		long balance1114 = balance("1114");
+		Files.writeString(directory.resolve("owned.csv"), "1114,3333,1234,10\n", StandardCharsets.UTF_8);
+		Integer jobId = insertJob("owned.csv", "other-node", 600, 0, 0, 0, 0);
+
+		IngestJob job = paymentFileIngestService.resume(jobId, 1);
+
+		assertEquals(IngestJob.RUNNING, job.getStatus());
+		assertEquals("other-node", job.getOwner());
+		Thread.sleep(300);
+		assertEquals(balance1114, balance("1114"));
+		assertEquals("other-node", paymentFileIngestService.readJob(jobId, 1).getOwner());
+	}
+
+	// 다른 서버가 처리하던 RUNNING 작업 (leaseSeconds 가 음수이면 소유권 만료)
+	private Integer insertJob(String fileName, String owner, int leaseSeconds, long position, long lineNo, long resultPosition, int succeeded) {
+		jdbcTemplate.update("insert into ingest_job_tb(user_id, file_name, format, status, position, line_no, result_position, succeeded, failed, owner, lease_until) "
+				+ "values(1, ?, 'CSV', 'RUNNING', ?, ?, ?, ?, 0, ?, ?)", fileName, position, lineNo, resultPosition, succeeded, owner,
+				new Timestamp(System.currentTimeMillis() + leaseSeconds * 1000L));
+		return jdbcTemplate.queryForObject("select max(id) from ingest_job_tb", Integer.class);
+	}
+
+	private IngestJob awaitFinished(Integer jobId) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			IngestJob job = paymentFileIngestService.readJob(jobId, 1);
+			if (IngestJob.RUNNING.equals(job.getStatus()) == false) {
+				return job;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("대량 이체 작업이 끝나지 않았습니다.");
+	}
+
+	private long balance(String number) {
+		return jdbcTemplate.queryForObject("select balance from account_tb where number = ?", Long.class, number);
+	}
+}
@@ -0,0 +1,109 @@
+package com.tenco.bank.ledger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.repository.model.IdempotencyKey;
+
+/**
+ * 샤드 수(코어 수)에 따른 원장 엔진 처리량 비교
+ * DB 대신 메모리 저장소를 사용해 엔진 자체의 ops/sec 를 측정한다.
+ * 실행 : ./gradlew loadTest
+ */
+@Tag("load")
+class LedgerEngineBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(LedgerEngineBenchmarkTest.class);
+
+	private static final int ACCOUNTS = 1_000;
+	private static final long INITIAL_BALANCE = 1_000_000L;
+	private static final int OPS_PER_CLIENT = 20_000;
+
+	@Test
+	void transferThroughputByShardCount() throws Exception {
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int shards = 1; shards <= cores; shards *= 2) {
+			run(shards, cores);
+		}
+	}
+
+	private void run(int shards, int clients) throws Exception {
+		InMemoryStore store = new InMemoryStore();
+		LedgerEngine engine = new LedgerEngine(store, shards, 500);
+		engine.start();
+
+		ExecutorService executor = Executors.newFixedThreadPool(clients);
+		long startedAt = System.nanoTime();
+		List<Future<?>> clientFutures = new ArrayList<>();
+		for (int i = 0; i < clients; i++) {
+			clientFutures.add(executor.submit(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				List<CompletableFuture<LedgerResult>> results = new ArrayList<>(OPS_PER_CLIENT);
+				for (int j = 0; j < OPS_PER_CLIENT; j++) {
+					int from = random.nextInt(1, ACCOUNTS + 1);
+					int to = random.nextInt(1, ACCOUNTS + 1);
+					results.add(engine.transfer(from, to, (long) random.nextInt(1, 100)));
+				}
+				CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+				return null;
+			}));
+		}
+		for (Future<?> future : clientFutures) {
+			future.get();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		executor.shutdown();
+
+		engine.flush();
+		engine.stop();
+
+		long ops = (long) clients * OPS_PER_CLIENT;
+		log.info("[LEDGER] shards={} clients={} {} ops/s (저장된 거래 내역 {})", shards, clients, String.format("%,.0f", ops / (elapsedNanos / 1_000_000_000.0)),
+				store.historyCount.get());
+		assertEquals(ACCOUNTS * INITIAL_BALANCE, store.totalBalance());
+		assertEquals(ops, store.historyCount.get());
+	}
+
+	private static class InMemoryStore implements LedgerStore {
+
+		private final Map<Integer, Long> balances = new ConcurrentHashMap<>();
+		private final AtomicLong historyCount = new AtomicLong();
+
+		InMemoryStore() {
+			for (int id = 1; id <= ACCOUNTS; id++) {
+				balances.put(id, INITIAL_BALANCE);
+			}
+		}
+
+		@Override
+		public Long loadBalance(Integer accountId) {
+			return balances.get(accountId);
+		}
+
+		@Override
+		public void persist(List<History> historyList, Map<Integer, Long> balanceDeltas, List<IdempotencyKey> idempotencyKeys) {
+			historyCount.addAndGet(historyList.size());
+			balanceDeltas.forEach((accountId, delta) -> balances.merge(accountId, delta, Long::sum));
+		}
+
+		long totalBalance() {
+			return balances.values().stream().mapToLong(Long::longValue).sum();
+		}
+	}
+}
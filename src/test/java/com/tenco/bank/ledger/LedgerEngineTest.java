@@ -0,0 +1,193 @@
+package com.tenco.bank.ledger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.model.History;
+import com.tenco.bank.repository.model.IdempotencyKey;
+import com.tenco.bank.utils.Define;
+
+/**
+ * 원장 엔진 저장 실패, 종료 처리 확인 (메모리 저장소 사용)
+ */
+class LedgerEngineTest {
+
+	private static final int ACCOUNTS = 8;
+	private static final long INITIAL_BALANCE = 1_000L;
+	// 이 계좌가 포함된 거래 내역은 저장에 실패한다
+	private static final int POISON_ACCOUNT = 7;
+
+	@Test
+	void poisonEventIsDeadLetteredAndRevertedWithoutBlockingOthers() throws Exception {
+		InMemoryStore store = new InMemoryStore(POISON_ACCOUNT);
+		LedgerEngine engine = new LedgerEngine(store, 2, 10);
+		engine.start();
+		try {
+			CompletableFuture<LedgerResult> poison = engine.transfer(1, POISON_ACCOUNT, 100L);
+			CompletableFuture<LedgerResult> healthy = engine.transfer(2, 3, 50L);
+
+			assertEquals(950L, healthy.get(10, TimeUnit.SECONDS).wBalance());
+			CompletionException e = assertThrows(CompletionException.class, () -> poison.orTimeout(10, TimeUnit.SECONDS).join());
+			assertTrue(e.getCause() instanceof DataIntegrityViolationException);
+			engine.flush();
+
+			// 메모리 잔액도 되돌려져서 다음 거래는 원래 잔액 기준
+			assertEquals(990L, engine.withdraw(1, 10L).get(10, TimeUnit.SECONDS).wBalance());
+			assertEquals(1L, engine.deadLetteredCount());
+		} finally {
+			engine.stop();
+		}
+		assertEquals(ACCOUNTS * INITIAL_BALANCE - 10L, store.totalBalance());
+	}
+
+	@Test
+	void stopCompletesEveryAcceptedTransferAndKeepsTotal() throws Exception {
+		InMemoryStore store = new InMemoryStore(-1);
+		LedgerEngine engine = new LedgerEngine(store, 4, 5);
+		engine.start();
+		List<CompletableFuture<LedgerResult>> futures = new ArrayList<>();
+		for (int i = 0; i < 2_000; i++) {
+			futures.add(engine.transfer(1 + i % ACCOUNTS, 1 + (i + 3) % ACCOUNTS, 1L));
+		}
+		engine.stop();
+
+		for (CompletableFuture<LedgerResult> future : futures) {
+			assertTrue(future.isDone());
+		}
+		assertEquals(ACCOUNTS * INITIAL_BALANCE, store.totalBalance());
+		assertEquals(futures.size(), store.historyCount.get());
+		// 종료 후 요청은 바로 실패
+		assertTrue(engine.deposit(1, 1L).isCompletedExceptionally());
+	}
+
+	@Test
+	void idempotencyKeyIsPersistedWithEventAndDuplicateKeyIsReverted() throws Exception {
+		InMemoryStore store = new InMemoryStore(-1);
+		LedgerEngine engine = new LedgerEngine(store, 2, 10);
+		engine.start();
+		try {
+			IdempotencyKey key = IdempotencyKey.builder().userId(1).idemKey("key-1").fingerprint("T|1111|2222|100").build();
+			assertEquals(900L, engine.transfer(1, 2, 100L, key).get(10, TimeUnit.SECONDS).wBalance());
+			// 출금 후 잔액이 거래 내역과 같은 배치에서 저장된다.
+			assertEquals(900L, store.keys.get("1:key-1"));
+
+			IdempotencyKey duplicate = IdempotencyKey.builder().userId(1).idemKey("key-1").fingerprint("T|1111|2222|100").build();
+			CompletionException e = assertThrows(CompletionException.class, () -> engine.transfer(1, 2, 100L, duplicate).orTimeout(10, TimeUnit.SECONDS).join());
+			assertTrue(e.getCause() instanceof DuplicateKeyException);
+			engine.flush();
+
+			// 중복 키 거래는 저장되지 않고 메모리 잔액도 되돌려진다.
+			assertEquals(890L, engine.withdraw(1, 10L).get(10, TimeUnit.SECONDS).wBalance());
+		} finally {
+			engine.stop();
+		}
+		assertEquals(2L, store.historyCount.get());
+		assertEquals(ACCOUNTS * INITIAL_BALANCE - 10L, store.totalBalance());
+	}
+
+	@Test
+	void debitSpendingDeadLetteredCreditIsDeadLetteredToo() throws Exception {
+		InMemoryStore store = new InMemoryStore(-1);
+		LedgerEngine engine = new LedgerEngine(store, 2, 10);
+		engine.start();
+		try {
+			IdempotencyKey key = IdempotencyKey.builder().userId(1).idemKey("key-1").fingerprint("D|4|10").build();
+			engine.deposit(4, 10L, key).get(10, TimeUnit.SECONDS);
+
+			// 중복 키라서 저장에 실패할 입금, 그 입금액을 쓰는 출금을 바로 이어서 요청
+			IdempotencyKey duplicate = IdempotencyKey.builder().userId(1).idemKey("key-1").fingerprint("D|4|10").build();
+			CompletableFuture<LedgerResult> credit = engine.deposit(4, 500L, duplicate);
+			CompletableFuture<LedgerResult> debit = engine.withdraw(4, 1_200L);
+
+			assertThrows(CompletionException.class, () -> credit.orTimeout(10, TimeUnit.SECONDS).join());
+			// 메모리에서 먼저 거절되든, 저장할 때 잔액 조건으로 dead-letter 되든 출금은 실패한다.
+			CompletionException e = assertThrows(CompletionException.class, () -> debit.orTimeout(10, TimeUnit.SECONDS).join());
+			assertEquals(Define.LACK_Of_BALANCE, e.getCause().getMessage());
+			engine.flush();
+
+			assertEquals(1_010L, store.balances.get(4));
+			// 메모리 잔액도 저장된 잔액과 같다.
+			assertEquals(1_000L, engine.withdraw(4, 10L).get(10, TimeUnit.SECONDS).wBalance());
+		} finally {
+			engine.stop();
+		}
+		assertEquals(ACCOUNTS * INITIAL_BALANCE, store.totalBalance());
+	}
+
+	@Test
+	void stopAppliesCompensationsOfEventsDeadLetteredWhileDraining() throws Exception {
+		InMemoryStore store = new InMemoryStore(POISON_ACCOUNT);
+		LedgerEngine engine = new LedgerEngine(store, 2, 10);
+		engine.start();
+		CompletableFuture<LedgerResult> poison = engine.transfer(1, POISON_ACCOUNT, 100L);
+		engine.stop();
+
+		assertTrue(poison.isCompletedExceptionally());
+		assertEquals(1L, engine.deadLetteredCount());
+		// 종료 중 저장에 실패한 이벤트의 되돌리기까지 샤드가 처리한 후 종료
+		assertEquals(0L, engine.inFlight());
+		assertEquals(ACCOUNTS * INITIAL_BALANCE, store.totalBalance());
+	}
+
+	private static class InMemoryStore implements LedgerStore {
+
+		private final Map<Integer, Long> balances = new ConcurrentHashMap<>();
+		private final AtomicLong historyCount = new AtomicLong();
+		// "유저 id:키" --> 처리 결과 잔액
+		private final Map<String, Long> keys = new ConcurrentHashMap<>();
+		private final int poisonAccount;
+
+		InMemoryStore(int poisonAccount) {
+			this.poisonAccount = poisonAccount;
+			for (int id = 1; id <= ACCOUNTS; id++) {
+				balances.put(id, INITIAL_BALANCE);
+			}
+		}
+
+		@Override
+		public Long loadBalance(Integer accountId) {
+			return balances.get(accountId);
+		}
+
+		@Override
+		public synchronized void persist(List<History> historyList, Map<Integer, Long> balanceDeltas, List<IdempotencyKey> idempotencyKeys) {
+			if (balanceDeltas.containsKey(poisonAccount)) {
+				throw new DataIntegrityViolationException("poison");
+			}
+			for (IdempotencyKey idempotencyKey : idempotencyKeys) {
+				if (keys.containsKey(idempotencyKey.getUserId() + ":" + idempotencyKey.getIdemKey())) {
+					throw new DuplicateKeyException(idempotencyKey.getIdemKey());
+				}
+			}
+			// account.xml addBalanceById 의 잔액 조건
+			balanceDeltas.forEach((accountId, delta) -> {
+				if (balances.get(accountId) + delta < 0) {
+					throw new DataDeliveryException(Define.LACK_Of_BALANCE, HttpStatus.BAD_REQUEST);
+				}
+			});
+			idempotencyKeys.forEach(idempotencyKey -> keys.put(idempotencyKey.getUserId() + ":" + idempotencyKey.getIdemKey(), idempotencyKey.getBalance()));
+			historyCount.addAndGet(historyList.size());
+			balanceDeltas.forEach((accountId, delta) -> balances.merge(accountId, delta, Long::sum));
+		}
+
+		long totalBalance() {
+			return balances.values().stream().mapToLong(Long::longValue).sum();
+		}
+	}
+}
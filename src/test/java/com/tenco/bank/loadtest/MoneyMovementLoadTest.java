@@ -0,0 +1,208 @@
+package com.tenco.bank.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import com.tenco.bank.dto.SaveDTO;
+import com.tenco.bank.repository.model.User;
+import com.tenco.bank.service.AccountService;
+import com.tenco.bank.utils.Define;
+
+/**
+ * 동시 입금/출금/이체 부하 테스트
+ * AccountController --> AccountService --> H2 실제 경로로 요청을 보내고
+ * 처리량, 응답 시간 분포, 오류 메시지별 건수를 출력한 뒤 돈의 보존과 거래 후 잔액의 일관성을 검증한다.
+ * 실행 : ./gradlew loadTest
+ */
+@Tag("load")
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class MoneyMovementLoadTest {
+
+	private static final int ACCOUNTS = 50;
+	private static final long INITIAL_BALANCE = 100_000L;
+	private static final int THREADS = 32;
+	private static final int OPS_PER_THREAD = 300;
+	private static final String PASSWORD = "1234";
+	private static final Pattern ALERT = Pattern.compile("alert\\('(.*)'\\)");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// data.sql - 1번 유저(길동)
+	private final User principal = User.builder().id(1).username("길동").fullname("고").build();
+
+	private final LongAdder deposited = new LongAdder();
+	private final LongAdder withdrawn = new LongAdder();
+	private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+	@Test
+	void concurrentMoneyMovementKeepsInvariants() throws Exception {
+		List<String> numbers = createAccounts();
+		long initialTotal = totalBalance(numbers);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<long[]>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				long[] latencies = new long[OPS_PER_THREAD];
+				for (int j = 0; j < OPS_PER_THREAD; j++) {
+					long startedAt = System.nanoTime();
+					randomOperation(numbers);
+					latencies[j] = System.nanoTime() - startedAt;
+				}
+				return latencies;
+			}));
+		}
+		long startedAt = System.nanoTime();
+		start.countDown();
+		long[] latencies = new long[THREADS * OPS_PER_THREAD];
+		int offset = 0;
+		for (Future<long[]> future : futures) {
+			long[] part = future.get();
+			System.arraycopy(part, 0, latencies, offset, part.length);
+			offset += part.length;
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		executor.shutdown();
+
+		report(latencies, elapsedNanos);
+
+		// 1. 돈의 보존 : 최종 잔액 합계 = 초기 합계 + 입금 합계 - 출금 합계 (이체는 합계에 영향 없음)
+		long finalTotal = totalBalance(numbers);
+		assertEquals(initialTotal + deposited.sum() - withdrawn.sum(), finalTotal, "잔액 합계 불일치");
+
+		// 2. 거래 후 잔액 일관성 : 계좌별 거래 항목을 순서대로 따라가면 현재 잔액이 된다.
+		for (String number : numbers) {
+			verifyPostBalances(number);
+		}
+		assertTrue(outcomes.containsKey("OK"), "성공한 요청이 없습니다.");
+	}
+
+	private List<String> createAccounts() {
+		List<String> numbers = new ArrayList<>(ACCOUNTS);
+		for (int i = 0; i < ACCOUNTS; i++) {
+			String number = String.format("L%04d", i);
+			accountService.createAccount(SaveDTO.builder().number(number).password(PASSWORD).Balance(INITIAL_BALANCE).build(), principal.getId());
+			numbers.add(number);
+		}
+		return numbers;
+	}
+
+	// 이체 60%, 출금 20%, 입금 20%
+	private void randomOperation(List<String> numbers) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		String number = numbers.get(random.nextInt(numbers.size()));
+		long amount = random.nextLong(1, 5_000);
+		int dice = random.nextInt(10);
+		if (dice < 6) {
+			String dNumber = numbers.get(random.nextInt(numbers.size()));
+			perform(post("/account/transfer").param("wAccountNumber", number).param("dAccountNumber", dNumber).param("password", PASSWORD).param("amount", String.valueOf(amount)), null, 0);
+		} else if (dice < 8) {
+			perform(post("/account/withdrawal").param("wAccountNumber", number).param("wAccountPassword", PASSWORD).param("amount", String.valueOf(amount)), withdrawn, amount);
+		} else {
+			perform(post("/account/deposit").param("dAccountNumber", number).param("amount", String.valueOf(amount)), deposited, amount);
+		}
+	}
+
+	private MockHttpServletRequestBuilder post(String url) {
+		return MockMvcRequestBuilders.post(url).sessionAttr(Define.PRINCIPAL, principal);
+	}
+
+	// 성공 : redirect, 실패 : GlobalControllerAdvice 의 alert 스크립트 또는 예외
+	private void perform(MockHttpServletRequestBuilder request, LongAdder sum, long amount) {
+		String outcome;
+		try {
+			MvcResult result = mockMvc.perform(request).andReturn();
+			int status = result.getResponse().getStatus();
+			if (status >= 300 && status < 400) {
+				outcome = "OK";
+				if (sum != null) {
+					sum.add(amount);
+				}
+			} else {
+				Matcher matcher = ALERT.matcher(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+				outcome = matcher.find() ? "DataDeliveryException: " + matcher.group(1) : "HTTP " + status;
+			}
+		} catch (Exception e) {
+			Throwable cause = e;
+			while (cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			outcome = cause.getClass().getSimpleName();
+		}
+		outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+	}
+
+	private void report(long[] latencies, long elapsedNanos) {
+		Arrays.sort(latencies);
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		System.out.printf("[LOAD] 요청 %d건, %.1f초, %.1f req/s%n", latencies.length, seconds, latencies.length / seconds);
+		System.out.printf("[LOAD] p50 %.2fms, p99 %.2fms, p999 %.2fms, max %.2fms%n", percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+				latencies[latencies.length - 1] / 1_000_000.0);
+		outcomes.forEach((outcome, count) -> System.out.printf("[LOAD] %s : %d건 (%.2f%%)%n", outcome, count.sum(), count.sum() * 100.0 / latencies.length));
+	}
+
+	private double percentile(long[] sorted, double p) {
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	private long totalBalance(List<String> numbers) {
+		long total = 0;
+		for (String number : numbers) {
+			total += jdbcTemplate.queryForObject("select balance from account_tb where number = ?", Long.class, number);
+		}
+		return total;
+	}
+
+	private void verifyPostBalances(String number) {
+		Integer accountId = jdbcTemplate.queryForObject("select id from account_tb where number = ?", Integer.class, number);
+		AtomicLong balance = new AtomicLong(INITIAL_BALANCE);
+		jdbcTemplate.query("select direction, amount, balance from account_entry_tb where account_id = ? order by id", rs -> {
+			long amount = rs.getLong("amount");
+			long expected = "D".equals(rs.getString("direction")) ? balance.get() + amount : balance.get() - amount;
+			assertEquals(expected, rs.getLong("balance"), number + " 거래 후 잔액 불일치");
+			balance.set(expected);
+		}, accountId);
+		Long current = jdbcTemplate.queryForObject("select balance from account_tb where id = ?", Long.class, accountId);
+		assertEquals(balance.get(), current, number + " 현재 잔액과 마지막 거래 후 잔액 불일치");
+	}
+}
@@ -0,0 +1,27 @@
+package com.tenco.bank.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.tenco.bank.datasource.AdmissionControlledDataSource;
+
+/**
+ * 기준 : Tomcat 플랫폼 스레드 200개 (기본 max-threads), 세마포어 없이 커넥션 풀 직접 사용
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = { "bank.db-admission.enabled=false", "spring.threads.virtual.enabled=false",
+		"server.tomcat.threads.max=200", "spring.datasource.hikari.maximum-pool-size=10" })
+@DirtiesContext
+class PlatformThreadLoadTest extends RequestExecutionModeLoadTest {
+
+	@Override
+	protected String mode() {
+		return "platform(200)";
+	}
+
+	@Override
+	protected void verifyDataSource() {
+		assertFalse(dataSource instanceof AdmissionControlledDataSource, "기준 측정에 세마포어가 적용되어 있습니다.");
+	}
+}
@@ -0,0 +1,151 @@
+package com.tenco.bank.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 요청 처리 방식 비교 (높은 동시성)
+ * 실제 포트로 띄운 서버에 HTTP 이체 요청(/api/v1/transfers)을 동시에 던지고 처리량, 응답 시간 분포, 실패 건수를 출력한다.
+ * 처리 방식(Tomcat 스레드, DB 세마포어)은 서버 설정으로 정하므로 방식마다 하위 클래스(별도 컨텍스트)로 실행한다.
+ * 1. PlatformThreadLoadTest : Tomcat 플랫폼 스레드 200개, DataSource 그대로 (기준)
+ * 2. VirtualThreadAdmissionLoadTest : 요청마다 가상 스레드 + 커넥션 풀 크기 세마포어 (virtual 프로필과 같은 설정)
+ * 실행 : ./gradlew loadTest
+ */
+@Tag("load")
+abstract class RequestExecutionModeLoadTest {
+
+	// data.sql - 1번 유저(길동) 소유 계좌
+	private static final List<String> ACCOUNT_NUMBERS = List.of("1111", "1112", "1113", "1114", "1115", "1116", "1117");
+	private static final int REQUESTS = 5_000;
+	// 동시에 열어 두는 클라이언트 연결 수 (Tomcat 스레드 수보다 많아야 서버 쪽 대기가 드러난다)
+	private static final int CLIENT_CONCURRENCY = 500;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	protected DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).connectTimeout(Duration.ofSeconds(10))
+			.followRedirects(HttpClient.Redirect.NEVER).build();
+
+	// 출력용 처리 방식 이름
+	protected abstract String mode();
+
+	// 컨텍스트의 DataSource 구성 확인
+	protected abstract void verifyDataSource();
+
+	@Test
+	void transfersOverHttp() throws Exception {
+		verifyDataSource();
+		String cookie = signIn();
+
+		long before = totalBalance();
+		// 예열
+		run("warm-up", cookie, 1_000);
+		run(mode(), cookie, REQUESTS);
+
+		assertEquals(before, totalBalance(), "이체 후 잔액 합계 불일치");
+	}
+
+	private void run(String mode, String cookie, int requests) throws Exception {
+		LongAdder failures = new LongAdder();
+		Semaphore connections = new Semaphore(CLIENT_CONCURRENCY);
+		List<Future<Long>> futures = new ArrayList<>(requests);
+		long startedAt = System.nanoTime();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < requests; i++) {
+				futures.add(executor.submit(() -> {
+					connections.acquire();
+					try {
+						// 요청을 보낸 시점부터 응답까지 (서버의 accept, 스레드, 커넥션 대기 포함)
+						long sentAt = System.nanoTime();
+						HttpResponse<String> response = httpClient.send(transferRequest(cookie), HttpResponse.BodyHandlers.ofString());
+						if (response.statusCode() != 200) {
+							failures.increment();
+						}
+						return System.nanoTime() - sentAt;
+					} catch (IOException e) {
+						failures.increment();
+						return 0L;
+					} finally {
+						connections.release();
+					}
+				}));
+			}
+			long[] latencies = new long[requests];
+			for (int i = 0; i < requests; i++) {
+				latencies[i] = futures.get(i).get();
+			}
+			long elapsedNanos = System.nanoTime() - startedAt;
+
+			Arrays.sort(latencies);
+			double seconds = elapsedNanos / 1_000_000_000.0;
+			System.out.printf("[MODE] %-20s 요청 %d건, %.1f req/s, p50 %.2fms, p99 %.2fms, max %.2fms, 실패 %d건%n", mode, requests, requests / seconds,
+					percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[requests - 1] / 1_000_000.0, failures.sum());
+		}
+	}
+
+	// 로그인 후 세션 쿠키 (JSESSIONID=...)
+	private String signIn() throws Exception {
+		String form = "username=" + URLEncoder.encode("길동", StandardCharsets.UTF_8) + "&password=1234";
+		HttpRequest request = HttpRequest.newBuilder(uri("/user/sign-in")).header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(HttpRequest.BodyPublishers.ofString(form)).build();
+		HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+		String cookie = response.headers().firstValue("Set-Cookie").map(value -> value.split(";", 2)[0]).orElse(null);
+		assertNotNull(cookie, "로그인 쿠키가 없습니다. status=" + response.statusCode());
+		return cookie;
+	}
+
+	private HttpRequest transferRequest(String cookie) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int from = random.nextInt(ACCOUNT_NUMBERS.size());
+		int to = (from + 1 + random.nextInt(ACCOUNT_NUMBERS.size() - 1)) % ACCOUNT_NUMBERS.size();
+		String body = String.format("{\"fromAccountNumber\":\"%s\",\"toAccountNumber\":\"%s\",\"password\":\"1234\",\"amount\":%d}", ACCOUNT_NUMBERS.get(from),
+				ACCOUNT_NUMBERS.get(to), random.nextInt(1, 10));
+		return HttpRequest.newBuilder(uri("/api/v1/transfers")).header("Content-Type", "application/json").header("Cookie", cookie)
+				.timeout(Duration.ofSeconds(30)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://127.0.0.1:" + port + path);
+	}
+
+	private double percentile(long[] sorted, double p) {
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	private long totalBalance() {
+		return jdbcTemplate.queryForObject("select sum(balance) from account_tb where number in ('1111', '1112', '1113', '1114', '1115', '1116', '1117')", Long.class);
+	}
+}
@@ -0,0 +1,35 @@
+package com.tenco.bank.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.tenco.bank.datasource.AdmissionControlledDataSource;
+
+/**
+ * 요청마다 가상 스레드 + 커넥션 풀 크기 세마포어 (virtual 프로필과 같은 설정)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = { "bank.db-admission.enabled=true", "spring.threads.virtual.enabled=true",
+		"spring.datasource.hikari.maximum-pool-size=10" })
+@DirtiesContext
+class VirtualThreadAdmissionLoadTest extends RequestExecutionModeLoadTest {
+
+	@Override
+	protected String mode() {
+		return "virtual+admission";
+	}
+
+	@Override
+	protected void verifyDataSource() {
+		assertTrue(dataSource instanceof AdmissionControlledDataSource, "DataSource 가 세마포어로 감싸지지 않았습니다.");
+	}
+
+	@AfterEach
+	void allPermitsReturned() {
+		AdmissionControlledDataSource admission = (AdmissionControlledDataSource) dataSource;
+		assertEquals(admission.getMaxPermits(), admission.getAvailablePermits(), "반납되지 않은 허용 수");
+	}
+}
@@ -0,0 +1,118 @@
+package com.tenco.bank.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tenco.bank.utils.PageCursor;
+
+/**
+ * 매퍼 조회문의 실행 계획이 인덱스를 사용하는지 확인 (H2 EXPLAIN)
+ * 실행 계획에 tableScan 이 있으면 전체 테이블 스캔이다.
+ */
+@SpringBootTest
+class MapperIndexUsageTest {
+
+	private static final String ACCOUNT = "com.tenco.bank.repository.interfaces.AccountRepository.";
+	private static final String HISTORY = "com.tenco.bank.repository.interfaces.HistoryRepository.";
+	private static final String ENTRY = "com.tenco.bank.repository.interfaces.AccountEntryRepository.";
+	private static final String USER = "com.tenco.bank.repository.interfaces.UserRepository.";
+
+	@Autowired
+	private SqlSessionFactory sqlSessionFactory;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private record PlanCase(String statementId, Object parameter) {
+	}
+
+	@Test
+	void lookupStatementsUseIndex() throws SQLException {
+		PageCursor cursor = PageCursor.next(new Timestamp(System.currentTimeMillis()), 100);
+		List<PlanCase> cases = List.of(
+				new PlanCase(ACCOUNT + "findByUserId", params("userId", 1, "cursor", null, "limit", 6)),
+				new PlanCase(ACCOUNT + "findByUserId", params("userId", 1, "cursor", cursor, "limit", 6)),
+				new PlanCase(ACCOUNT + "findByNumber", params("number", "1111")),
+				new PlanCase(ACCOUNT + "findIdsByNumbers", params("numbers", List.of("1111", "2222"))),
+				new PlanCase(ACCOUNT + "findByIdsForUpdate", params("ids", List.of(1, 8))),
+				new PlanCase(ACCOUNT + "findByAccountId", 1),
+				new PlanCase(ACCOUNT + "findBalanceById", 1),
+				new PlanCase(ACCOUNT + "countAccountByuserId", 1),
+				new PlanCase(HISTORY + "findById", 1),
+				new PlanCase(ENTRY + "findByAccountIdAndType", params("type", "all", "accountId", 1, "cursor", null, "limit", 3)),
+				new PlanCase(ENTRY + "findByAccountIdAndType", params("type", "all", "accountId", 1, "cursor", cursor, "limit", 3)),
+				new PlanCase(ENTRY + "countByAccountIdAndType", params("type", "all", "accountId", 1)),
+				new PlanCase(ENTRY + "findStatementPage", params("accountId", 1, "from", Timestamp.valueOf("2024-01-01 00:00:00"), "to", Timestamp.valueOf("2025-01-01 00:00:00"),
+						"afterCreatedAt", Timestamp.valueOf("2024-06-01 00:00:00"), "afterId", 10, "limit", 1000)),
+				new PlanCase(ENTRY + "findByAccountIdAndType", params("type", "deposit", "accountId", 1, "cursor", null, "limit", 3)),
+				new PlanCase(ENTRY + "findByAccountIdAndType", params("type", "deposit", "accountId", 1, "cursor", cursor, "limit", 3)),
+				new PlanCase(ENTRY + "countByAccountIdAndType", params("type", "deposit", "accountId", 1)),
+				new PlanCase(ENTRY + "findByAccountIdAndType", params("type", "withdrawal", "accountId", 1, "cursor", null, "limit", 3)),
+				new PlanCase(ENTRY + "findByAccountIdAndType", params("type", "withdrawal", "accountId", 1, "cursor", cursor, "limit", 3)),
+				new PlanCase(ENTRY + "countByAccountIdAndType", params("type", "withdrawal", "accountId", 1)),
+				new PlanCase(USER + "findById", 1),
+				new PlanCase(USER + "findByUsername", params("username", "길동")));
+
+		for (PlanCase planCase : cases) {
+			String plan = explain(planCase);
+			assertFalse(plan.contains("tableScan"), planCase.statementId() + " 인덱스 미사용\n" + plan);
+		}
+	}
+
+	private String explain(PlanCase planCase) throws SQLException {
+		Configuration configuration = sqlSessionFactory.getConfiguration();
+		BoundSql boundSql = configuration.getMappedStatement(planCase.statementId()).getBoundSql(planCase.parameter());
+		try (Connection connection = dataSource.getConnection(); PreparedStatement pstmt = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+			List<ParameterMapping> mappings = boundSql.getParameterMappings();
+			for (int i = 0; i < mappings.size(); i++) {
+				pstmt.setObject(i + 1, parameterValue(configuration, boundSql, planCase.parameter(), mappings.get(i).getProperty()));
+			}
+			StringBuilder plan = new StringBuilder();
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					plan.append(rs.getString(1));
+				}
+			}
+			return plan.toString();
+		}
+	}
+
+	// MyBatis DefaultParameterHandler 와 같은 규칙으로 바인딩 값 조회
+	private Object parameterValue(Configuration configuration, BoundSql boundSql, Object parameter, String property) {
+		if (boundSql.hasAdditionalParameter(property)) {
+			return boundSql.getAdditionalParameter(property);
+		}
+		if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+			return parameter;
+		}
+		MetaObject metaObject = configuration.newMetaObject(parameter);
+		return metaObject.getValue(property);
+	}
+
+	private static Map<String, Object> params(Object... keyValues) {
+		Map<String, Object> map = new HashMap<>();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			map.put((String) keyValues[i], keyValues[i + 1]);
+		}
+		return map;
+	}
+}
@@ -0,0 +1,65 @@
+package com.tenco.bank.repository.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tenco.bank.dto.TransferDTO;
+import com.tenco.bank.repository.interfaces.AccountRepository;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.service.AccountService;
+
+/**
+ * 잔액만 바꾸는 매퍼는 캐시를 유지하고, 계좌 정보를 바꾸는 매퍼(updateById)만 캐시를 비운다.
+ */
+@SpringBootTest
+class AccountCacheInvalidationTest {
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountCache accountCache;
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void transferKeepsCachedAccounts() {
+		// data.sql - 1111, 1112 는 1번 유저 계좌
+		TransferDTO dto = new TransferDTO();
+		dto.setWAccountNumber("1111");
+		dto.setDAccountNumber("1112");
+		dto.setPassword("1234");
+		dto.setAmount(10L);
+		accountService.updateAccountTransfer(dto, 1);
+		accountService.updateAccountTransfer(dto, 1);
+
+		assertNotNull(accountCache.getByNumber("1111", this::load));
+		assertNotNull(accountCache.getByNumber("1112", this::load));
+		assertEquals(0, loads.get());
+	}
+
+	@Test
+	void updateByIdEvictsAccount() {
+		Account account = accountRepository.findByNumber("1113");
+		accountCache.getByNumber("1113", accountRepository::findByNumber);
+
+		accountRepository.updateById(account);
+
+		accountCache.getByNumber("1113", this::load);
+		assertEquals(1, loads.get());
+	}
+
+	private Account load(String number) {
+		loads.incrementAndGet();
+		return accountRepository.findByNumber(number);
+	}
+}
@@ -0,0 +1,50 @@
+package com.tenco.bank.repository.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tenco.bank.repository.model.Account;
+
+class AccountCacheTest {
+
+	private final AccountCache accountCache = new AccountCache(true, 100);
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void loadOverlappingEvictIsNotCached() {
+		// 로딩(옛 값 조회) 도중 다른 트랜잭션의 커밋으로 제거된 경우
+		accountCache.getById(1, id -> {
+			loads.incrementAndGet();
+			accountCache.evict(id);
+			return account(id, "1111");
+		});
+		accountCache.getById(1, this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void balanceIsNotCachedAndNumberMissesAreCounted() {
+		Account loaded = accountCache.getByNumber("1111", number -> load(1));
+		Account cached = accountCache.getByNumber("1111", number -> load(1));
+
+		assertNull(loaded.getBalance());
+		assertNull(cached.getBalance());
+		assertEquals(1, loads.get());
+		assertEquals(1, accountCache.getMisses());
+		assertEquals(1, accountCache.getHits());
+	}
+
+	private Account load(Integer id) {
+		loads.incrementAndGet();
+		return account(id, "1111");
+	}
+
+	private Account account(Integer id, String number) {
+		return Account.builder().id(id).number(number).password("1234").balance(1000L).userId(1).version(0L).build();
+	}
+}
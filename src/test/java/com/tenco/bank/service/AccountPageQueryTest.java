@@ -0,0 +1,103 @@
+package com.tenco.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tenco.bank.dto.CursorPage;
+import com.tenco.bank.dto.PageResult;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.model.Account;
+import com.tenco.bank.repository.model.HistoryAccount;
+import com.tenco.bank.utils.PageCursor;
+
+/**
+ * 한 번의 쿼리로 읽은 목록 화면 결과가 기존 조회(건수, 페이지, 계좌 각각 조회)와 같은지 확인
+ */
+@SpringBootTest
+class AccountPageQueryTest {
+
+	@Autowired
+	private AccountService accountService;
+
+	@Test
+	void accountPageMatchesSeparateQueries() {
+		// data.sql - 1번 유저 계좌 7개
+		String cursor = null;
+		do {
+			PageResult<Void, Account> result = accountService.readAccountPage(1, cursor, 3);
+			CursorPage<Account> expected = accountService.readAccountListByUserId(1, cursor, 3);
+
+			assertEquals(accountService.countAccountByuserId(1), result.getTotalRecords());
+			assertEquals(ids(expected.getContent(), Account::getId), ids(result.getPage().getContent(), Account::getId));
+			assertEquals(expected.getPrevCursor(), result.getPage().getPrevCursor());
+			assertEquals(expected.getNextCursor(), result.getPage().getNextCursor());
+			cursor = result.getPage().getNextCursor();
+		} while (cursor != null);
+	}
+
+	@Test
+	void historyPageMatchesSeparateQueries() {
+		for (String type : List.of("all", "deposit", "withdrawal")) {
+			String cursor = null;
+			do {
+				PageResult<Account, HistoryAccount> result = accountService.readHistoryPage(type, 1, cursor, 2);
+				CursorPage<HistoryAccount> expected = accountService.readHistoryByAccountId(type, 1, cursor, 2);
+
+				assertEquals("1111", result.getHeader().getNumber());
+				assertEquals(accountService.countHistoryByAccountIdAndType(type, 1), result.getTotalRecords());
+				assertEquals(ids(expected.getContent(), HistoryAccount::getId), ids(result.getPage().getContent(), HistoryAccount::getId));
+				assertEquals(expected.getNextCursor(), result.getPage().getNextCursor());
+				cursor = result.getPage().getNextCursor();
+			} while (cursor != null);
+		}
+	}
+
+	@Test
+	void backwardPastFirstItemShowsFirstPage() {
+		// data.sql - 1번 유저 계좌 7개, 첫 페이지 3개
+		CursorPage<Account> first = accountService.readAccountListByUserId(1, null, 3);
+		Account firstAccount = first.getContent().get(0);
+		String beforeFirst = PageCursor.prev(firstAccount.getCreatedAt(), firstAccount.getId()).encode();
+
+		CursorPage<Account> page = accountService.readAccountListByUserId(1, beforeFirst, 3);
+		assertEquals(ids(first.getContent(), Account::getId), ids(page.getContent(), Account::getId));
+		assertNull(page.getPrevCursor());
+		assertEquals(first.getNextCursor(), page.getNextCursor());
+
+		// 두 번째 페이지에서 이전으로 이동해도 첫 페이지
+		CursorPage<Account> second = accountService.readAccountListByUserId(1, first.getNextCursor(), 3);
+		CursorPage<Account> back = accountService.readAccountListByUserId(1, second.getPrevCursor(), 3);
+		assertEquals(ids(first.getContent(), Account::getId), ids(back.getContent(), Account::getId));
+		assertNull(back.getPrevCursor());
+	}
+
+	@Test
+	void historyBackwardPastFirstItemKeepsNextCursor() {
+		PageResult<Account, HistoryAccount> first = accountService.readHistoryPage("all", 1, null, 2);
+		HistoryAccount newest = first.getPage().getContent().get(0);
+		String beforeFirst = PageCursor.prev(newest.getCreatedAt(), newest.getId()).encode();
+
+		PageResult<Account, HistoryAccount> page = accountService.readHistoryPage("all", 1, beforeFirst, 2);
+		assertEquals(ids(first.getPage().getContent(), HistoryAccount::getId), ids(page.getPage().getContent(), HistoryAccount::getId));
+		assertNull(page.getPage().getPrevCursor());
+		assertNotNull(page.getPage().getNextCursor());
+	}
+
+	@Test
+	void missingAccountIsRejected() {
+		assertThrows(DataDeliveryException.class, () -> accountService.readHistoryPage("all", Integer.MAX_VALUE, null, 2));
+	}
+
+	private static <T> List<Integer> ids(List<T> rows, Function<T, Integer> id) {
+		return rows.stream().map(id).toList();
+	}
+}
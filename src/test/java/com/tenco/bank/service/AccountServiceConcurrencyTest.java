@@ -0,0 +1,158 @@
+package com.tenco.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tenco.bank.dto.TransferDTO;
+import com.tenco.bank.handler.exception.DataDeliveryException;
+import com.tenco.bank.repository.interfaces.AccountRepository;
+
+/**
+ * 여러 스레드가 동시에 이체를 요청해도 전체 잔액이 보존되는지 확인
+ * OPTIMISTIC 모드는 버전 충돌시 재시도한다.
+ * LEGACY 모드는 갱신 손실이 생길 수 있어 잔액을 검증할 수 없으므로 처리량 비교용 부하 테스트로만 실행한다. (./gradlew loadTest)
+ */
+@SpringBootTest
+@DirtiesContext
+class AccountServiceConcurrencyTest {
+
+	private static final Logger log = LoggerFactory.getLogger(AccountServiceConcurrencyTest.class);
+
+	// data.sql - 1번 유저 소유 계좌
+	private static final List<String> ACCOUNT_NUMBERS = List.of("1111", "1112", "1113", "1114", "1115", "1116", "1117");
+	private static final Integer PRINCIPAL_ID = 1;
+	private static final int THREADS = 8;
+	private static final int TRANSFERS_PER_THREAD = 200;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Test
+	void atomicTransferKeepsTotalBalance() throws InterruptedException {
+		ReflectionTestUtils.setField(accountService, "moneyMovementMode", MoneyMovementMode.ATOMIC);
+
+		long before = totalBalance();
+		RunResult result = runTransfers();
+		long after = totalBalance();
+
+		result.print("ATOMIC", before, after);
+		assertEquals(before, after);
+		assertTrue(result.succeeded() > 0);
+	}
+
+	@Test
+	void optimisticTransferKeepsTotalBalance() throws InterruptedException {
+		ReflectionTestUtils.setField(accountService, "moneyMovementMode", MoneyMovementMode.OPTIMISTIC);
+		try {
+			long before = totalBalance();
+			RunResult result = runTransfers();
+			long after = totalBalance();
+
+			// 재시도 횟수를 넘긴 충돌은 409 (DataDeliveryException) 로 거절되고 롤백된다
+			result.print("OPTIMISTIC", before, after);
+			assertEquals(before, after);
+			assertTrue(result.succeeded() > 0);
+		} finally {
+			ReflectionTestUtils.setField(accountService, "moneyMovementMode", MoneyMovementMode.ATOMIC);
+		}
+	}
+
+	@Tag("load")
+	@Test
+	void legacyTransferForComparison() throws InterruptedException {
+		ReflectionTestUtils.setField(accountService, "moneyMovementMode", MoneyMovementMode.LEGACY);
+		try {
+			long before = totalBalance();
+			RunResult result = runTransfers();
+			long after = totalBalance();
+			result.print("LEGACY", before, after);
+			// 잔액은 보존되지 않을 수 있지만 모든 요청은 제한 시간 안에 처리(성공/거절/실패)되어야 한다.
+			assertEquals(THREADS * TRANSFERS_PER_THREAD, result.succeeded() + result.rejected() + result.failed());
+		} finally {
+			ReflectionTestUtils.setField(accountService, "moneyMovementMode", MoneyMovementMode.ATOMIC);
+		}
+	}
+
+	private RunResult runTransfers() throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger succeeded = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+
+		for (int i = 0; i < THREADS; i++) {
+			executor.submit(() -> {
+				start.await();
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for (int j = 0; j < TRANSFERS_PER_THREAD; j++) {
+					int from = random.nextInt(ACCOUNT_NUMBERS.size());
+					int to = (from + 1 + random.nextInt(ACCOUNT_NUMBERS.size() - 1)) % ACCOUNT_NUMBERS.size();
+					TransferDTO dto = new TransferDTO();
+					dto.setWAccountNumber(ACCOUNT_NUMBERS.get(from));
+					dto.setDAccountNumber(ACCOUNT_NUMBERS.get(to));
+					dto.setPassword("1234");
+					dto.setAmount((long) random.nextInt(1, 10));
+					try {
+						accountService.updateAccountTransfer(dto, PRINCIPAL_ID);
+						succeeded.incrementAndGet();
+					} catch (DataDeliveryException e) {
+						rejected.incrementAndGet();
+					} catch (RuntimeException e) {
+						// 락 대기 시간 초과, 데드락 등 - 트랜잭션은 롤백된다
+						failed.incrementAndGet();
+					}
+				}
+				return null;
+			});
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		executor.shutdown();
+		// 제한 시간 안에 끝나지 않은 작업(멈춘 스레드)이 있으면 실패
+		boolean terminated = executor.awaitTermination(2, TimeUnit.MINUTES);
+		long elapsedNanos = System.nanoTime() - startedAt;
+		if (terminated == false) {
+			executor.shutdownNow();
+		}
+		assertTrue(terminated, "이체 스레드가 제한 시간 안에 끝나지 않았습니다.");
+		return new RunResult(succeeded.get(), rejected.get(), failed.get(), elapsedNanos);
+	}
+
+	private long totalBalance() {
+		long total = 0;
+		for (String number : ACCOUNT_NUMBERS) {
+			total += accountRepository.findByNumber(number).getBalance();
+		}
+		return total;
+	}
+
+	private record RunResult(int succeeded, int rejected, int failed, long elapsedNanos) {
+
+		void print(String mode, long before, long after) {
+			double seconds = elapsedNanos / 1_000_000_000.0;
+			log.info("[{}] 성공 {}, 잔액부족 {}, 실패 {}, {} ops/s, 전체 잔액 {} -> {} (차이 {})", mode, succeeded, rejected, failed,
+					String.format("%.1f", (succeeded + rejected + failed) / seconds), before, after, after - before);
+		}
+	}
+}
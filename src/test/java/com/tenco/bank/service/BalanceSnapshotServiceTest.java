@@ -0,0 +1,92 @@
+package com.tenco.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext
+class BalanceSnapshotServiceTest {
+
+	@Autowired
+	private BalanceSnapshotService balanceSnapshotService;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Integer accountId;
+
+	// 3번 유저 계좌 (초기 잔액 1000)
+	// 01-02 입금 1000 (2000), 출금 300 (1700) / 01-03 입금 500 (2200) / 01-05 출금 200 (2000)
+	@BeforeEach
+	void setUp() {
+		String number = "snap-" + System.nanoTime();
+		jdbcTemplate.update("insert into account_tb(number, password, balance, user_id, created_at) values(?, '1234', 2000, 3, ?)", number,
+				Timestamp.valueOf("2024-01-01 00:00:00"));
+		accountId = jdbcTemplate.queryForObject("select id from account_tb where number = ?", Integer.class, number);
+		insert("D", 1000, 2000, "2024-01-02 10:00:00");
+		insert("W", 300, 1700, "2024-01-02 15:00:00");
+		insert("D", 500, 2200, "2024-01-03 09:00:00");
+		insert("W", 200, 2000, "2024-01-05 12:00:00");
+	}
+
+	@Test
+	void balanceAtWithoutSnapshotUsesEntries() {
+		assertEquals(1000L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-01-01 12:00:00")));
+		assertEquals(1700L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-01-02 23:59:59")));
+		assertEquals(2200L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-01-04 00:00:00")));
+	}
+
+	@Test
+	void balanceAtReplaysEntriesAfterSnapshot() {
+		balanceSnapshotService.run(new Timestamp(System.currentTimeMillis() + 1000));
+
+		assertEquals(1700L, snapshot("2024-01-02"));
+		assertEquals(2200L, snapshot("2024-01-03"));
+		assertEquals(2000L, snapshot("2024-01-05"));
+
+		assertEquals(1000L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-01-01 12:00:00")));
+		assertEquals(2000L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-01-02 12:00:00")));
+		assertEquals(1700L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-01-03 08:00:00")));
+		assertEquals(2200L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-01-05 11:59:59")));
+		assertEquals(2000L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-01-05 12:00:00")));
+		assertEquals(2000L, accountService.balanceAt(accountId, Timestamp.valueOf("2024-02-01 00:00:00")));
+	}
+
+	@Test
+	void rerunFromOldWatermarkKeepsLatestBalance() {
+		balanceSnapshotService.run(new Timestamp(System.currentTimeMillis() + 1000));
+		jdbcTemplate.update("update snapshot_watermark_tb set last_history_id = 0 where name = 'balance'");
+
+		balanceSnapshotService.run(new Timestamp(System.currentTimeMillis() + 1000));
+
+		assertEquals(1700L, snapshot("2024-01-02"));
+		assertEquals(2000L, snapshot("2024-01-05"));
+	}
+
+	private void insert(String direction, long amount, long balance, String createdAt) {
+		Timestamp timestamp = Timestamp.valueOf(createdAt);
+		boolean deposit = "D".equals(direction);
+		jdbcTemplate.update("insert into history_tb(amount, w_account_id, d_account_id, w_balance, d_balance, created_at) values(?, ?, ?, ?, ?, ?)", amount,
+				deposit ? null : accountId, deposit ? accountId : null, deposit ? null : balance, deposit ? balance : null, timestamp);
+		Integer historyId = jdbcTemplate.queryForObject("select max(id) from history_tb", Integer.class);
+		jdbcTemplate.update("insert into account_entry_tb(history_id, account_id, direction, amount, balance, created_at) values(?, ?, ?, ?, ?, ?)", historyId,
+				accountId, direction, amount, balance, timestamp);
+	}
+
+	private long snapshot(String date) {
+		return jdbcTemplate.queryForObject("select balance from balance_snapshot_tb where account_id = ? and snapshot_date = ?", Long.class, accountId,
+				Date.valueOf(date));
+	}
+}
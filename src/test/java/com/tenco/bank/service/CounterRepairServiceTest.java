@@ -0,0 +1,40 @@
+package com.tenco.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+// 청크 경계가 여러 번 생기도록 작은 배치 크기 사용
+@SpringBootTest(properties = "bank.counter.repair-batch-size=2")
+@DirtiesContext
+class CounterRepairServiceTest {
+
+	@Autowired
+	private CounterRepairService counterRepairService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void rebuildRestoresCountersAcrossChunks() {
+		jdbcTemplate.update("update account_stat_tb set all_count = 999, deposit_count = 999, withdrawal_count = 999");
+		jdbcTemplate.update("delete from account_stat_tb where account_id = 3");
+		jdbcTemplate.update("update user_stat_tb set account_count = 999");
+
+		counterRepairService.rebuildCounters();
+
+		assertEquals(0, jdbcTemplate.queryForObject("""
+				select count(*) from account_stat_tb s
+				where s.all_count <> (select count(*) from account_entry_tb e where e.account_id = s.account_id)
+				or s.deposit_count <> (select count(*) from account_entry_tb e where e.account_id = s.account_id and e.direction = 'D')
+				""", Integer.class));
+		assertEquals(jdbcTemplate.queryForObject("select count(*) from account_tb", Integer.class),
+				jdbcTemplate.queryForObject("select count(*) from account_stat_tb", Integer.class));
+		assertEquals(0, jdbcTemplate.queryForObject(
+				"select count(*) from user_stat_tb s where s.account_count <> (select count(*) from account_tb a where a.user_id = s.user_id)", Integer.class));
+	}
+}
@@ -0,0 +1,56 @@
+package com.tenco.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tenco.bank.handler.exception.DataDeliveryException;
+
+@SpringBootTest
+class StatementExportServiceTest {
+
+	@Autowired
+	private StatementExportService statementExportService;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Test
+	void exportsWholeHistoryOldestFirst() {
+		// data.sql - 1번 계좌(1111)는 1번 유저 소유
+		StringWriter writer = new StringWriter();
+
+		long rows = statementExportService.exportCsv(statementExportService.readOwnedAccount(1, 1), null, null, writer);
+
+		String[] lines = writer.toString().split("\n");
+		assertEquals(accountService.countHistoryByAccountIdAndType("all", 1), rows);
+		assertEquals(rows + 1, lines.length);
+		assertTrue(lines[0].contains("거래일시"));
+		for (int i = 2; i < lines.length; i++) {
+			// 거래일시 오름차순
+			assertTrue(lines[i - 1].substring(0, 19).compareTo(lines[i].substring(0, 19)) <= 0);
+		}
+	}
+
+	@Test
+	void emptyPeriodHasOnlyHeader() {
+		StringWriter writer = new StringWriter();
+
+		long rows = statementExportService.exportCsv(statementExportService.readOwnedAccount(1, 1), LocalDate.of(2000, 1, 1), LocalDate.of(2000, 1, 31), writer);
+
+		assertEquals(0, rows);
+		assertEquals(1, writer.toString().split("\n").length);
+	}
+
+	@Test
+	void otherUsersAccountIsRejected() {
+		assertThrows(DataDeliveryException.class, () -> statementExportService.readOwnedAccount(1, 2));
+	}
+}
@@ -0,0 +1,37 @@
+package com.tenco.bank.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+
+import org.junit.jupiter.api.Test;
+
+class ValueFormatsTest {
+
+	@Test
+	void groupingMatchesDecimalFormat() {
+		DecimalFormat df = new DecimalFormat("#,###");
+		long[] values = { 0, 1, 12, 123, 999, 1_000, 12_345, 100_000, 1_234_567, -1, -999, -1_000, -1_234_567, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 };
+		for (long value : values) {
+			assertEquals(df.format(value) + "원", ValueFormats.formatKoreanWon(value), String.valueOf(value));
+		}
+	}
+
+	@Test
+	void timestampMatchesSimpleDateFormat() {
+		Timestamp timestamp = Timestamp.valueOf("2024-08-01 09:05:07.123");
+
+		assertEquals(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(timestamp), ValueFormats.formatTimestamp(timestamp));
+	}
+
+	@Test
+	void appendKeepsExistingBufferContent() {
+		StringBuilder sb = new StringBuilder("잔액:");
+
+		ValueFormats.appendKoreanWon(sb, 1_600L);
+
+		assertEquals("잔액:1,600원", sb.toString());
+	}
+}